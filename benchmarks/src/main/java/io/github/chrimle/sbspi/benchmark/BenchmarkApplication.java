@@ -0,0 +1,86 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Minimal application, without auto-configuration, enabling {@link StaticValueInjector} for the
+ * synthetic base package of a {@link BenchmarkScenario}. The property placeholder configurer is
+ * imported, as the {@code @Value} fields of the injector are otherwise left unresolved by {@code
+ * 0.1.2}, which is instantiated before the fallback placeholder resolver is registered.
+ */
+@SpringBootConfiguration
+@ComponentScan(basePackageClasses = StaticValueInjector.class)
+@Import(PropertyPlaceholderAutoConfiguration.class)
+public class BenchmarkApplication {
+
+  /**
+   * Starts the application.
+   *
+   * @param scenario whose synthetic base package to inject.
+   * @param beans the number of additional beans to register.
+   * @return the started application context.
+   */
+  static ConfigurableApplicationContext start(final BenchmarkScenario scenario, final int beans) {
+    return start(scenario, beans, Map.of());
+  }
+
+  /**
+   * Starts the application, with additional properties.
+   *
+   * @param scenario whose synthetic base package to inject.
+   * @param beans the number of additional beans to register.
+   * @param additionalProperties to start the application with.
+   * @return the started application context.
+   */
+  static ConfigurableApplicationContext start(
+      final BenchmarkScenario scenario,
+      final int beans,
+      final Map<String, Object> additionalProperties) {
+    final Map<String, Object> properties = new HashMap<>(additionalProperties);
+    properties.put("sbspi.basePackage", scenario.basePackage());
+    properties.put("spring.main.banner-mode", "off");
+    properties.put("logging.level.root", "warn");
+    for (int i = 0; i < BenchmarkScenario.PROPERTY_KEYS; i++) {
+      properties.put(BenchmarkScenario.propertyKey(i), String.valueOf(i));
+    }
+    return new SpringApplicationBuilder(BenchmarkApplication.class)
+        .web(WebApplicationType.NONE)
+        .logStartupInfo(false)
+        .properties(properties)
+        .initializers(
+            context -> {
+              for (int i = 0; i < beans; i++) {
+                ((GenericApplicationContext) context).registerBean("bean" + i, Object.class);
+              }
+            })
+        .run();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A synthetic base package, described as {@code c<classes>-a<annotated%>-f<fields>-s<spel%>}. For
+ * example, {@code c1000-a10-f4-s25} describes 1000 classes, of which 10% declare 4 fields annotated
+ * with {@code @StaticValue} each, of which 25% are SpEL expressions and the rest are property
+ * placeholders.
+ *
+ * @param classes the number of classes in the base package.
+ * @param annotatedPercent the percentage of classes declaring annotated fields.
+ * @param fieldsPerClass the number of annotated fields per annotated class.
+ * @param spelPercent the percentage of annotated fields using SpEL expressions.
+ */
+record BenchmarkScenario(int classes, int annotatedPercent, int fieldsPerClass, int spelPercent) {
+
+  /** The scenarios generated by {@link SyntheticClassGenerator} and benchmarked by default. */
+  static final List<String> DEFAULT_SCENARIOS =
+      List.of(
+          "c100-a100-f4-s25",
+          "c1000-a100-f4-s25",
+          "c10000-a10-f4-s25",
+          "c50000-a10-f4-s25",
+          "c1000-a100-f1-s0",
+          "c1000-a100-f16-s0",
+          "c1000-a100-f4-s100");
+
+  /** The number of distinct property keys referenced by the annotated fields. */
+  static final int PROPERTY_KEYS = 1000;
+
+  private static final Pattern FORMAT = Pattern.compile("c(\\d+)-a(\\d+)-f(\\d+)-s(\\d+)");
+
+  static BenchmarkScenario parse(final String scenario) {
+    final Matcher matcher = FORMAT.matcher(scenario);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Malformed scenario: " + scenario);
+    }
+    return new BenchmarkScenario(
+        Integer.parseInt(matcher.group(1)),
+        Integer.parseInt(matcher.group(2)),
+        Integer.parseInt(matcher.group(3)),
+        Integer.parseInt(matcher.group(4)));
+  }
+
+  /**
+   * Returns the base package containing the synthetic classes of <i>this</i> scenario.
+   *
+   * @return the base package.
+   */
+  String basePackage() {
+    return "sbspi.bench.c%d_a%d_f%d_s%d"
+        .formatted(classes, annotatedPercent, fieldsPerClass, spelPercent);
+  }
+
+  /**
+   * Returns whether the class with the {@code classIndex} declares annotated fields.
+   *
+   * @param classIndex of the class.
+   * @return {@code true} if the class declares annotated fields.
+   */
+  boolean isAnnotated(final int classIndex) {
+    return classIndex % 100 < annotatedPercent;
+  }
+
+  /**
+   * Returns whether the field with the {@code fieldIndex} uses a SpEL expression.
+   *
+   * @param fieldIndex of the field, within its class.
+   * @return {@code true} if the field uses a SpEL expression.
+   */
+  boolean isSpel(final int fieldIndex) {
+    return (fieldIndex * 100 / Math.max(fieldsPerClass, 1)) < spelPercent;
+  }
+
+  /**
+   * Returns the total number of annotated fields of <i>this</i> scenario.
+   *
+   * @return the number of annotated fields.
+   */
+  int annotatedFields() {
+    int annotatedClasses = 0;
+    for (int i = 0; i < classes; i++) {
+      if (isAnnotated(i)) {
+        annotatedClasses++;
+      }
+    }
+    return annotatedClasses * fieldsPerClass;
+  }
+
+  /**
+   * Returns the property key referenced by the n:th annotated field of <i>this</i> scenario.
+   *
+   * @param n the index of the annotated field, across all classes.
+   * @return the property key.
+   */
+  static String propertyKey(final int n) {
+    return "bench.k" + (n % PROPERTY_KEYS);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the latency of resolving, converting and writing a single field, by re-injecting every
+ * field of a synthetic base package with exactly {@value #FIELDS} annotated fields.
+ *
+ * <p>Fields sharing an expression are resolved independently ({@code
+ * sbspi.resolution.deduplicate=false}), as every field of the scenarios references one of only
+ * {@value BenchmarkScenario#PROPERTY_KEYS} property keys, and {@value #FIELDS} fields would
+ * otherwise not all be resolved.
+ *
+ * <p>This benchmark requires {@code StaticValueInjector#reinject(Set)}, which is not available in
+ * releases prior to 0.2.0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class FieldResolutionBenchmark {
+
+  /** The number of annotated fields of every scenario of this benchmark. */
+  static final int FIELDS = 4000;
+
+  /** The synthetic base package, see {@link BenchmarkScenario}. */
+  @Param({"c1000-a100-f4-s25", "c1000-a100-f4-s0", "c1000-a100-f4-s100"})
+  public String scenario;
+
+  private ConfigurableApplicationContext context;
+  private StaticValueInjector injector;
+  private MethodHandle reinject;
+  private Set<String> allPropertyKeys;
+
+  /**
+   * Starts the application context.
+   *
+   * @throws ReflectiveOperationException if {@code reinject} is not available.
+   */
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    final BenchmarkScenario benchmarkScenario = BenchmarkScenario.parse(scenario);
+    if (benchmarkScenario.annotatedFields() != FIELDS) {
+      throw new IllegalStateException(scenario + " does not have " + FIELDS + " fields");
+    }
+    context =
+        BenchmarkApplication.start(
+            benchmarkScenario, 0, Map.of("sbspi.resolution.deduplicate", false));
+    injector = context.getBean(StaticValueInjector.class);
+    reinject =
+        MethodHandles.publicLookup()
+            .findVirtual(
+                StaticValueInjector.class,
+                "reinject",
+                MethodType.methodType(int.class, Set.class));
+    allPropertyKeys = new HashSet<>();
+    for (int i = 0; i < BenchmarkScenario.PROPERTY_KEYS; i++) {
+      allPropertyKeys.add(BenchmarkScenario.propertyKey(i));
+    }
+  }
+
+  /** Closes the application context. */
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  /**
+   * Re-injects every annotated field.
+   *
+   * @return the number of re-injected fields.
+   * @throws Throwable if re-injection fails.
+   */
+  @Benchmark
+  @OperationsPerInvocation(FIELDS)
+  public int resolveField() throws Throwable {
+    return (int) reinject.invoke(injector, allPropertyKeys);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the heap retained by a started application context, which has scanned and injected a
+ * synthetic base package. The used heap is measured after garbage collection, before starting and
+ * after starting the context, and the difference is reported as the {@code retainedBytes} counter.
+ * Comparing {@link #reload} {@code true} and {@code false} shows the state released by the {@code
+ * StaticValueInjector} when re-injection is disabled (requires {@code 0.2.0} or later).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(2)
+public class RetainedHeapBenchmark {
+
+  /** The synthetic base package, see {@link BenchmarkScenario}. */
+  @Param({"c10000-a10-f4-s25", "c50000-a10-f4-s25"})
+  public String scenario;
+
+  /** The value of {@code sbspi.reload.enabled}. */
+  @Param({"true", "false"})
+  public String reload;
+
+  private BenchmarkScenario benchmarkScenario;
+
+  /** Parses the {@link #scenario}. */
+  @Setup
+  public void setUp() {
+    benchmarkScenario = BenchmarkScenario.parse(scenario);
+  }
+
+  /** The heap retained by the application context, reported by JMH as a secondary result. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+
+    /** The number of bytes retained by the application context. */
+    public long retainedBytes;
+  }
+
+  /**
+   * Starts an application context, measures the heap it retains, and closes it.
+   *
+   * @param retainedHeap to report the retained heap to.
+   */
+  @Benchmark
+  public void retainedHeap(final RetainedHeap retainedHeap) {
+    final long usedBefore = usedHeapAfterGc();
+    try (final ConfigurableApplicationContext context =
+        BenchmarkApplication.start(
+            benchmarkScenario, 10, Map.of("sbspi.reload.enabled", reload))) {
+      retainedHeap.retainedBytes = usedHeapAfterGc() - usedBefore;
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      memory.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
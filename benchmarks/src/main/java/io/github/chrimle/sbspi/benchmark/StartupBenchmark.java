@@ -0,0 +1,82 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the full cost of scanning and injecting a synthetic base package, by starting and
+ * closing an application context. Every bean of the context passes through the {@code
+ * StaticValueInjector}, which makes the cost of per-bean processing visible through {@link #beans}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class StartupBenchmark {
+
+  /** The synthetic base package, see {@link BenchmarkScenario}. */
+  @Param({
+    "c100-a100-f4-s25",
+    "c1000-a100-f4-s25",
+    "c10000-a10-f4-s25",
+    "c50000-a10-f4-s25",
+    "c1000-a100-f1-s0",
+    "c1000-a100-f16-s0",
+    "c1000-a100-f4-s100"
+  })
+  public String scenario;
+
+  /** The number of additional beans registered in the application context. */
+  @Param({"10", "1000"})
+  public int beans;
+
+  private BenchmarkScenario benchmarkScenario;
+
+  /** Parses the {@link #scenario}. */
+  @Setup
+  public void setUp() {
+    benchmarkScenario = BenchmarkScenario.parse(scenario);
+  }
+
+  /**
+   * Starts and closes an application context, scanning and injecting the synthetic base package.
+   */
+  @Benchmark
+  public void startup() {
+    try (final ConfigurableApplicationContext context =
+        BenchmarkApplication.start(benchmarkScenario, beans)) {
+      context.getId();
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+
+package io.github.chrimle.sbspi.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+
+/**
+ * Generates the synthetic base packages of {@link BenchmarkScenario}s as class files, to a directory
+ * which is then added to the classpath of the benchmarks.
+ *
+ * <p>Usage: {@code SyntheticClassGenerator <output-directory> [scenario...]}. If no scenarios are
+ * given, the {@link BenchmarkScenario#DEFAULT_SCENARIOS} are generated.
+ */
+public final class SyntheticClassGenerator {
+
+  private static final String STATIC_VALUE_DESCRIPTOR = "Lio/github/chrimle/sbspi/StaticValue;";
+
+  private SyntheticClassGenerator() {}
+
+  /**
+   * Generates the synthetic classes.
+   *
+   * @param args the output directory, followed by optional scenarios.
+   * @throws IOException if writing the class files fails.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length == 0) {
+      throw new IllegalArgumentException("Usage: <output-directory> [scenario...]");
+    }
+    final Path outputDirectory = Path.of(args[0]);
+    final List<String> scenarios =
+        args.length > 1
+            ? Arrays.asList(args).subList(1, args.length)
+            : BenchmarkScenario.DEFAULT_SCENARIOS;
+    for (final String scenario : scenarios) {
+      generate(BenchmarkScenario.parse(scenario), outputDirectory);
+    }
+  }
+
+  static void generate(final BenchmarkScenario scenario, final Path outputDirectory)
+      throws IOException {
+    final String packagePath = scenario.basePackage().replace('.', '/');
+    int annotatedField = 0;
+    for (int i = 0; i < scenario.classes(); i++) {
+      // Spread the classes over sub-packages, as real applications do
+      final String internalName = "%s/p%d/C%d".formatted(packagePath, i / 100, i);
+      final ClassWriter classWriter = new ClassWriter(0);
+      classWriter.visit(
+          Opcodes.V17,
+          Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER,
+          internalName,
+          null,
+          "java/lang/Object",
+          null);
+      if (scenario.isAnnotated(i)) {
+        for (int j = 0; j < scenario.fieldsPerClass(); j++) {
+          writeField(classWriter, scenario, j, annotatedField++);
+        }
+      }
+      // An unannotated field, which is present in every class
+      classWriter
+          .visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "UNANNOTATED", "I", null, null)
+          .visitEnd();
+      writeConstructor(classWriter);
+      classWriter.visitEnd();
+
+      final Path classFile = outputDirectory.resolve(internalName + ".class");
+      Files.createDirectories(classFile.getParent());
+      Files.write(classFile, classWriter.toByteArray());
+    }
+  }
+
+  private static void writeField(
+      final ClassWriter classWriter,
+      final BenchmarkScenario scenario,
+      final int fieldIndex,
+      final int annotatedField) {
+    final String key = BenchmarkScenario.propertyKey(annotatedField);
+    final String expression =
+        scenario.isSpel(fieldIndex) ? "#{getProperty('" + key + "')}" : "${" + key + "}";
+    // Alternate between String and int fields, to include conversions
+    final String descriptor = fieldIndex % 2 == 0 ? "Ljava/lang/String;" : "I";
+    final FieldVisitor fieldVisitor =
+        classWriter.visitField(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "F" + fieldIndex, descriptor, null, null);
+    final AnnotationVisitor annotationVisitor =
+        fieldVisitor.visitAnnotation(STATIC_VALUE_DESCRIPTOR, true);
+    annotationVisitor.visit("value", expression);
+    annotationVisitor.visitEnd();
+    fieldVisitor.visitEnd();
+  }
+
+  private static void writeConstructor(final ClassWriter classWriter) {
+    final MethodVisitor constructor =
+        classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+    constructor.visitCode();
+    constructor.visitVarInsn(Opcodes.ALOAD, 0);
+    constructor.visitMethodInsn(
+        Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    constructor.visitInsn(Opcodes.RETURN);
+    constructor.visitMaxs(1, 1);
+    constructor.visitEnd();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link StaticValueBatchResolver} resolving properties from an in-memory {@link Map}, e.g. as a
+ * local stand-in for a remote backend. Every invocation of {@link #resolve(Set)} is counted as a
+ * round trip.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public class InMemoryStaticValueBatchResolver implements StaticValueBatchResolver {
+
+  private final Map<String, String> properties;
+  private final int batchSize;
+  private final AtomicInteger roundTrips = new AtomicInteger();
+
+  /**
+   * Creates a new resolver of the {@code properties}, resolving all keys in a single round trip.
+   *
+   * @param properties to resolve.
+   * @since 0.2.0
+   */
+  public InMemoryStaticValueBatchResolver(final Map<String, String> properties) {
+    this(properties, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new resolver of the {@code properties}, resolving at most {@code batchSize} keys per
+   * round trip.
+   *
+   * @param properties to resolve.
+   * @param batchSize the maximum number of keys per round trip.
+   * @since 0.2.0
+   */
+  public InMemoryStaticValueBatchResolver(
+      final Map<String, String> properties, final int batchSize) {
+    this.properties = Map.copyOf(properties);
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public Map<String, String> resolve(final Set<String> keys) {
+    roundTrips.incrementAndGet();
+    final Map<String, String> values = new HashMap<>();
+    for (final String key : keys) {
+      final String value = properties.get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Returns the number of round trips, i.e. invocations of {@link #resolve(Set)}.
+   *
+   * @return the number of round trips.
+   * @since 0.2.0
+   */
+  public int getRoundTrips() {
+    return roundTrips.get();
+  }
+}
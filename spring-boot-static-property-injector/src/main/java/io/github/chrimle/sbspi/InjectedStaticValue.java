@@ -0,0 +1,39 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+/**
+ * Describes the most recent injection of a field annotated with {@link StaticValue}.
+ *
+ * @param className the fully qualified name of the declaring class.
+ * @param fieldName the name of the field.
+ * @param expression the {@link StaticValue#value()} of the field.
+ * @param value the injected value, or {@code null} if the expression could not be resolved, or was
+ *     resolved to {@code null}.
+ * @param resolved whether the expression could be resolved, and the value was injected.
+ * @param durationNanos the time it took to resolve, convert and inject the value, in nanoseconds.
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public record InjectedStaticValue(
+    String className,
+    String fieldName,
+    String expression,
+    Object value,
+    boolean resolved,
+    long durationNanos) {}
@@ -0,0 +1,54 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Condition matching when {@code sbspi.basePackage} is set. Unlike {@code @ConditionalOnProperty},
+ * the property is bound through a {@link Binder}, as by {@link StaticValueScanScope#bind}, so that
+ * every form accepted by relaxed binding matches, e.g. {@code sbspi.base-package}, {@code
+ * sbspi.basePackage[0]} or {@code SBSPI_BASEPACKAGE}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+class OnStaticValueBasePackageCondition extends SpringBootCondition {
+
+  @Override
+  public ConditionOutcome getMatchOutcome(
+      final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+    final ConditionMessage.Builder message =
+        ConditionMessage.forCondition("StaticValue base package");
+    final List<String> basePackages =
+        Binder.get(context.getEnvironment())
+            .bind("sbspi.base-package", Bindable.listOf(String.class))
+            .orElse(List.of());
+    if (basePackages.isEmpty()) {
+      return ConditionOutcome.noMatch(message.didNotFind("property").items("sbspi.basePackage"));
+    }
+    return ConditionOutcome.match(message.found("base package").items(basePackages));
+  }
+}
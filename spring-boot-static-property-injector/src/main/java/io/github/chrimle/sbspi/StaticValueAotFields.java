@@ -0,0 +1,137 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The fields annotated with {@link StaticValue}, as found at build-time by {@link
+ * StaticValueAotProcessor}. This is registered as a singleton by the generated code of an
+ * AOT-processed application, and allows {@link StaticValueInjector} to skip scanning at startup.
+ *
+ * <p><strong>API Note:</strong> This class is only intended to be used by generated code.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticValueAotFields {
+
+  /**
+   * The name of the singleton bean.
+   *
+   * @since 0.2.0
+   */
+  public static final String BEAN_NAME = "io.github.chrimle.sbspi.staticValueAotFields";
+
+  private final List<Entry> entries = new ArrayList<>();
+  private final Map<FieldKey, Consumer<Object>> setters = new HashMap<>();
+
+  /**
+   * Creates an empty set of fields.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueAotFields() {}
+
+  /**
+   * Adds a field, which is assigned directly by the {@code setter}.
+   *
+   * @param declaringClass of the field.
+   * @param fieldName the name of the field.
+   * @param setter assigning values to the field.
+   * @return <i>this</i> instance.
+   * @since 0.2.0
+   */
+  public synchronized StaticValueAotFields add(
+      final Class<?> declaringClass, final String fieldName, final Consumer<Object> setter) {
+    entries.add(new Entry(declaringClass, declaringClass.getName(), fieldName));
+    setters.put(new FieldKey(declaringClass.getName(), fieldName), setter);
+    return this;
+  }
+
+  /**
+   * Adds a field, which is not accessible to generated code, and is assigned reflectively.
+   *
+   * @param className the binary name of the declaring class.
+   * @param fieldName the name of the field.
+   * @return <i>this</i> instance.
+   * @since 0.2.0
+   */
+  public synchronized StaticValueAotFields add(final String className, final String fieldName) {
+    entries.add(new Entry(null, className, fieldName));
+    return this;
+  }
+
+  /**
+   * Resolves the added fields which are within the {@code scope}.
+   *
+   * @param classLoader to load classes with, if not added as {@link Class}es.
+   * @param scope of classes to include fields from.
+   * @return the fields, in the order they were added.
+   */
+  synchronized List<Field> fields(final ClassLoader classLoader, final StaticValueScanScope scope) {
+    final Set<Field> fields = new LinkedHashSet<>();
+    for (final Entry entry : entries) {
+      if (!scope.includes(entry.className())) {
+        continue;
+      }
+      fields.add(entry.resolve(classLoader));
+    }
+    return List.copyOf(fields);
+  }
+
+  /**
+   * Returns the generated setter of the {@code field}. Setters are looked up by the name of the
+   * declaring class and the name of the field, as {@link Field} instances returned by reflection
+   * are distinct copies.
+   *
+   * @param field to get the setter of.
+   * @return the setter, or {@code null} if the field is not accessible to generated code.
+   */
+  synchronized Consumer<Object> setter(final Field field) {
+    return setters.get(new FieldKey(field.getDeclaringClass().getName(), field.getName()));
+  }
+
+  private record FieldKey(String className, String fieldName) {}
+
+  private record Entry(Class<?> declaringClass, String className, String fieldName) {
+
+    private Field resolve(final ClassLoader classLoader) {
+      Class<?> clazz = declaringClass;
+      if (clazz == null) {
+        try {
+          clazz = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+          throw StaticValueInjectorException.classNotFound(className, e);
+        }
+      }
+      try {
+        return clazz.getDeclaredField(fieldName);
+      } catch (NoSuchFieldException e) {
+        throw StaticValueInjectorException.indexedFieldNotFound(className, fieldName, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.javapoet.CodeBlock;
+
+/**
+ * Finds every field annotated with {@link StaticValue} when an application is processed
+ * ahead-of-time, e.g. for a GraalVM native image. The fields are registered by generated code as
+ * {@link StaticValueAotFields}, meaning that {@link StaticValueInjector} does not scan the
+ * classpath at startup.
+ *
+ * <p>Fields which are {@code public}, and declared in {@code public} classes, are assigned directly
+ * by the generated code. Other fields are assigned reflectively. Reflection hints are registered
+ * for all fields.
+ *
+ * <p>This processor is registered in {@code META-INF/spring/aot.factories}, and only contributes if
+ * {@link StaticValueInjector} is a bean of the application.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public class StaticValueAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueAotProcessor() {}
+
+  @Override
+  public BeanFactoryInitializationAotContribution processAheadOfTime(
+      final ConfigurableListableBeanFactory beanFactory) {
+    if (beanFactory.getBeanNamesForType(StaticValueInjector.class, false, false).length == 0) {
+      return null;
+    }
+    final Environment environment =
+        beanFactory.getBean(
+            ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+    final StaticValueScanScope scope = StaticValueScanScope.bind(environment);
+    final ClassLoader classLoader = beanFactory.getBeanClassLoader();
+    final List<Field> fields = findAllAnnotatedFields(environment, classLoader, scope);
+    return (generationContext, beanFactoryInitializationCode) -> {
+      registerHints(generationContext.getRuntimeHints(), fields);
+      final GeneratedMethod generatedMethod =
+          beanFactoryInitializationCode
+              .getMethods()
+              .add(
+                  "registerStaticValueFields",
+                  method ->
+                      method
+                          .addJavadoc(
+                              "Registers the fields annotated with {@link $T}.", StaticValue.class)
+                          .addModifiers(
+                              javax.lang.model.element.Modifier.PUBLIC,
+                              javax.lang.model.element.Modifier.STATIC)
+                          .addParameter(DefaultListableBeanFactory.class, "beanFactory")
+                          .addCode(generateCode(fields)));
+      beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+    };
+  }
+
+  private static List<Field> findAllAnnotatedFields(
+      final Environment environment,
+      final ClassLoader classLoader,
+      final StaticValueScanScope scope) {
+    final StaticValueFieldScanner scanner =
+        new StaticValueFieldScanner(new DefaultResourceLoader(classLoader), scope, 1);
+    if (!environment.getProperty("sbspi.index.enabled", Boolean.class, true)) {
+      return scanner.scan();
+    }
+    final StaticValueIndex.Indexed indexed = StaticValueIndex.load(classLoader, scope::includes);
+    final Set<Field> fields = new LinkedHashSet<>(indexed.fields());
+    fields.addAll(scanner.scan(indexed.roots()));
+    return List.copyOf(fields);
+  }
+
+  private static void registerHints(final RuntimeHints hints, final List<Field> fields) {
+    for (final Field field : fields) {
+      hints.reflection().registerField(field);
+    }
+  }
+
+  private static CodeBlock generateCode(final List<Field> fields) {
+    final CodeBlock.Builder code = CodeBlock.builder();
+    code.addStatement(
+        "$T fields = new $T()", StaticValueAotFields.class, StaticValueAotFields.class);
+    for (final Field field : fields) {
+      final Class<?> declaringClass = field.getDeclaringClass();
+      if (isDirectlyAssignable(field)) {
+        code.addStatement(
+            "fields.add($T.class, $S, value -> $T.$L = ($T) value)",
+            declaringClass,
+            field.getName(),
+            declaringClass,
+            field.getName(),
+            field.getType());
+      } else {
+        code.addStatement("fields.add($S, $S)", declaringClass.getName(), field.getName());
+      }
+    }
+    code.addStatement(
+        "beanFactory.registerSingleton($T.BEAN_NAME, fields)", StaticValueAotFields.class);
+    return code.build();
+  }
+
+  private static boolean isDirectlyAssignable(final Field field) {
+    final int modifiers = field.getModifiers();
+    return Modifier.isPublic(modifiers)
+        && Modifier.isStatic(modifiers)
+        && !Modifier.isFinal(modifiers)
+        && isPublic(field.getDeclaringClass())
+        && isPublic(field.getType());
+  }
+
+  private static boolean isPublic(final Class<?> type) {
+    if (type.isPrimitive()) {
+      return true;
+    }
+    if (type.isArray()) {
+      return isPublic(type.getComponentType());
+    }
+    return Modifier.isPublic(type.getModifiers())
+        && (type.getEnclosingClass() == null || isPublic(type.getEnclosingClass()));
+  }
+}
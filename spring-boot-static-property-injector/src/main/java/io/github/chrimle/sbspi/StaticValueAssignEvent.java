@@ -0,0 +1,34 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded while writing the converted value to a field annotated with {@link
+ * StaticValue}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Name("io.github.chrimle.sbspi.Assign")
+@Label("Static Value Assign")
+@Description("Writing the converted value to a @StaticValue field")
+final class StaticValueAssignEvent extends StaticValueFieldEvent {}
@@ -0,0 +1,169 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prefetches property keys in batches, using {@link StaticValueBatchResolver}s.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueBatchPrefetcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StaticValueBatchPrefetcher.class);
+
+  private final List<StaticValueBatchResolver> resolvers;
+  private final int concurrency;
+  private final Duration timeout;
+
+  /**
+   * Creates a new prefetcher.
+   *
+   * @param resolvers to invoke, in order.
+   * @param concurrency the maximum number of batches to resolve concurrently.
+   * @param timeout of resolving all batches of all resolvers.
+   */
+  StaticValueBatchPrefetcher(
+      final List<StaticValueBatchResolver> resolvers,
+      final int concurrency,
+      final Duration timeout) {
+    this.resolvers = resolvers;
+    this.concurrency = Math.max(1, concurrency);
+    this.timeout = timeout;
+  }
+
+  /**
+   * Prefetches the {@code keys}. Each resolver is only invoked for the keys which have not been
+   * resolved by preceding resolvers. The batches of all resolvers are resolved by the same threads,
+   * and must all be resolved within the timeout; resolvers which have not been invoked once the
+   * timeout has elapsed are skipped.
+   *
+   * @param keys to prefetch.
+   * @return the prefetched values by key. Keys which could not be prefetched are omitted.
+   */
+  Map<String, Object> prefetch(final Set<String> keys) {
+    final Map<String, Object> values = new HashMap<>();
+    final Set<String> remainingKeys = new LinkedHashSet<>(keys);
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            runnable -> {
+              final Thread thread =
+                  new Thread(runnable, "sbspi-batch-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      for (final StaticValueBatchResolver resolver : resolvers) {
+        if (remainingKeys.isEmpty()) {
+          break;
+        }
+        final long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+          LOGGER.warn(
+              "{} was not invoked, as prefetching did not complete within {}; falling back to the"
+                  + " Environment.",
+              resolver.getClass().getSimpleName(),
+              timeout);
+          continue;
+        }
+        final Map<String, String> resolvedValues =
+            prefetch(resolver, remainingKeys, executor, remainingNanos);
+        values.putAll(resolvedValues);
+        remainingKeys.removeAll(resolvedValues.keySet());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      executor.shutdownNow();
+    }
+    return values;
+  }
+
+  private Map<String, String> prefetch(
+      final StaticValueBatchResolver resolver,
+      final Set<String> keys,
+      final ExecutorService executor,
+      final long timeoutNanos)
+      throws InterruptedException {
+    final Map<String, String> values = new HashMap<>();
+    for (final Future<Map<String, String>> future :
+        executor.invokeAll(partition(resolver, keys), timeoutNanos, TimeUnit.NANOSECONDS)) {
+      try {
+        final Map<String, String> batch = Objects.requireNonNullElse(future.get(), Map.of());
+        for (final Map.Entry<String, String> entry : batch.entrySet()) {
+          if (entry.getValue() != null && keys.contains(entry.getKey())) {
+            values.put(entry.getKey(), entry.getValue());
+          }
+        }
+      } catch (CancellationException e) {
+        LOGGER.warn(
+            "{} did not resolve a batch within {}; falling back to the Environment.",
+            resolver.getClass().getSimpleName(),
+            timeout);
+      } catch (ExecutionException e) {
+        LOGGER.warn(
+            "{} failed to resolve a batch; falling back to the Environment.",
+            resolver.getClass().getSimpleName(),
+            e.getCause());
+      }
+    }
+    return values;
+  }
+
+  private static List<Callable<Map<String, String>>> partition(
+      final StaticValueBatchResolver resolver, final Set<String> keys) {
+    final int batchSize = Math.max(1, resolver.batchSize());
+    final List<Callable<Map<String, String>>> batches = new ArrayList<>();
+    Set<String> batch = new LinkedHashSet<>();
+    for (final String key : keys) {
+      batch.add(key);
+      if (batch.size() == batchSize) {
+        final Set<String> fullBatch = Set.copyOf(batch);
+        batches.add(() -> resolver.resolve(fullBatch));
+        batch = new LinkedHashSet<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      final Set<String> lastBatch = Set.copyOf(batch);
+      batches.add(() -> resolver.resolve(lastBatch));
+    }
+    return batches;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service Provider Interface for resolving the properties referenced by {@link StaticValue} fields
+ * in bulk, e.g. from a remote secrets or configuration backend. When beans implementing this
+ * interface are present, {@link StaticValueInjector} collects the property keys of all fields
+ * <em>before</em> any field is resolved, and prefetches them in batches.
+ *
+ * <p>Prefetched values are added as the last property source of the {@link
+ * org.springframework.core.env.Environment}, meaning that they never override properties of any
+ * other property source, e.g. system properties or {@code application.properties}. Keys which are
+ * not returned by any resolver, or which could not be prefetched within {@code
+ * sbspi.batch.timeout}, are resolved as usual. At most {@code sbspi.batch.concurrency} batches are
+ * resolved concurrently. If multiple resolvers are present, they are invoked in order, and only for
+ * the keys not resolved by preceding resolvers; {@code sbspi.batch.timeout} applies to all of them
+ * together.
+ *
+ * <p>Only property keys which can be determined without evaluating the expression are prefetched;
+ * placeholders, and literal arguments to {@code getProperty} in SpEL expressions.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ * @see InMemoryStaticValueBatchResolver
+ */
+@FunctionalInterface
+public interface StaticValueBatchResolver {
+
+  /**
+   * Resolves the values of the {@code keys} in a single round trip. This method may be invoked
+   * concurrently, for disjoint batches of keys.
+   *
+   * @param keys to resolve, at most {@link #batchSize()} keys.
+   * @return the resolved values by key. Keys which could not be resolved MUST be omitted. {@code
+   *     null} is treated as an empty map.
+   * @since 0.2.0
+   */
+  Map<String, String> resolve(Set<String> keys);
+
+  /**
+   * Returns the maximum number of keys to resolve in a single round trip.
+   *
+   * @return the maximum number of keys per batch, defaults to {@link Integer#MAX_VALUE}.
+   * @since 0.2.0
+   */
+  default int batchSize() {
+    return Integer.MAX_VALUE;
+  }
+}
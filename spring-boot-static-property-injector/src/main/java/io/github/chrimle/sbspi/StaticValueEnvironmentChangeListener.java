@@ -0,0 +1,78 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Re-injects fields annotated with {@link StaticValue} when Spring Cloud publishes an {@code
+ * EnvironmentChangeEvent}, by invoking {@link StaticValueInjector#reinject(Set)} with the changed
+ * keys of the event.
+ *
+ * <p>This listener is only registered if Spring Cloud Context is on the classpath, and may be
+ * disabled by setting {@code sbspi.reinject.listener.enabled=false}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Component
+@ConditionalOnClass(name = StaticValueEnvironmentChangeListener.ENVIRONMENT_CHANGE_EVENT)
+@ConditionalOnProperty(
+    name = "sbspi.reinject.listener.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class StaticValueEnvironmentChangeListener implements ApplicationListener<ApplicationEvent> {
+
+  static final String ENVIRONMENT_CHANGE_EVENT =
+      "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+  private final StaticValueInjector staticValueInjector;
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @param staticValueInjector to re-inject fields with.
+   * @since 0.2.0
+   */
+  public StaticValueEnvironmentChangeListener(final StaticValueInjector staticValueInjector) {
+    this.staticValueInjector = staticValueInjector;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void onApplicationEvent(final ApplicationEvent event) {
+    if (!ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+      return;
+    }
+    final Method getKeys = ReflectionUtils.findMethod(event.getClass(), "getKeys");
+    if (getKeys == null) {
+      return;
+    }
+    final Set<String> changedKeys = (Set<String>) ReflectionUtils.invokeMethod(getKeys, event);
+    if (changedKeys != null && !changedKeys.isEmpty()) {
+      staticValueInjector.reinject(changedKeys);
+    }
+  }
+}
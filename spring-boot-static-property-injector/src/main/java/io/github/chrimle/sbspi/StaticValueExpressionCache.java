@@ -0,0 +1,94 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Cache of parsed SpEL {@link Expression}s, keyed by their expression strings. Each expression is
+ * parsed only once, and may be compiled to bytecode depending on the {@link SpelCompilerMode}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueExpressionCache {
+
+  private final SpelExpressionParser parser;
+  private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new, empty, cache.
+   *
+   * @param compilerMode the {@link SpelCompilerMode} of parsed expressions.
+   * @param classLoader to compile expressions with.
+   */
+  StaticValueExpressionCache(final SpelCompilerMode compilerMode, final ClassLoader classLoader) {
+    this.parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, classLoader));
+  }
+
+  /**
+   * Returns the parsed {@link Expression} of the {@code expressionString}, parsing it only if it is
+   * not already cached.
+   *
+   * @param expressionString to parse.
+   * @return the parsed {@link Expression}.
+   */
+  Expression get(final String expressionString) {
+    final Expression expression = expressions.get(expressionString);
+    if (expression != null) {
+      hits.increment();
+      return expression;
+    }
+    misses.increment();
+    return expressions.computeIfAbsent(expressionString, parser::parseExpression);
+  }
+
+  /**
+   * Removes all parsed {@link Expression}s from <i>this</i> cache. The number of hits and misses is
+   * retained.
+   */
+  void clear() {
+    expressions.clear();
+  }
+
+  /**
+   * Returns the number of times a parsed {@link Expression} was found in <i>this</i> cache.
+   *
+   * @return the number of cache hits.
+   */
+  long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of times an expression had to be parsed.
+   *
+   * @return the number of cache misses.
+   */
+  long misses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * A field annotated with {@link StaticValue}, or bound by {@link StaticConfigurationProperties},
+ * together with its resolved {@link StaticFieldWriter}.
+ *
+ * @param field the annotated field.
+ * @param annotationValue the {@link StaticValue#value()} of the {@code field}, or the name of the
+ *     property if the {@code field} is {@code bound}.
+ * @param targetType the {@link TypeDescriptor} of the {@code field}, including generics, or of the
+ *     value of a {@link StaticProperty} field.
+ * @param writer the writer of the {@code field}.
+ * @param bound whether the {@code field} is bound by {@link StaticConfigurationProperties}.
+ * @author Chrimle
+ * @since 0.2.0
+ */
+record StaticValueField(
+    Field field,
+    String annotationValue,
+    TypeDescriptor targetType,
+    StaticFieldWriter writer,
+    boolean bound) {
+
+  /**
+   * Returns whether the {@code field} is a {@link StaticProperty}, which is resolved lazily.
+   *
+   * @return {@code true} if the {@code field} is resolved lazily, otherwise {@code false}.
+   */
+  boolean isLazy() {
+    return field.getType() == StaticProperty.class;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the JFR events recorded for a single field annotated with {@link StaticValue}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Category("Static Property Injector")
+abstract class StaticValueFieldEvent extends Event {
+
+  @Label("Class")
+  String className;
+
+  @Label("Field")
+  String fieldName;
+
+  @Label("Expression")
+  String expression;
+
+  /**
+   * Ends <i>this</i> event, and commits it for the {@code staticValueField} if it is enabled.
+   *
+   * @param staticValueField related to <i>this</i> event.
+   */
+  void commit(final StaticValueField staticValueField) {
+    end();
+    if (shouldCommit()) {
+      className = staticValueField.field().getDeclaringClass().getName();
+      fieldName = staticValueField.field().getName();
+      expression = staticValueField.annotationValue();
+      commit();
+    }
+  }
+}
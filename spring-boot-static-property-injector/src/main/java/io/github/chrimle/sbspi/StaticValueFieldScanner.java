@@ -0,0 +1,172 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.asm.ClassReader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+/**
+ * Scans the classpath for fields annotated with {@link StaticValue}, or bound by {@link
+ * StaticConfigurationProperties}, within the base packages of a {@link StaticValueScanScope}.
+ * Multiple base packages are scanned in parallel.
+ *
+ * <p>Classpath roots (directories or jars) which contain a <em>static value index</em> may be
+ * skipped, see {@link #scan(Set)}, as their fields are already listed by the index.
+ *
+ * <p>Each class file is read exactly once, and inspected by {@link
+ * StaticValueTypeFilter#matches(ClassReader)}. No class metadata is created, nor cached by the
+ * {@code CachingMetadataReaderFactory} shared through the {@link ResourceLoader}, so nothing of the
+ * scanned classes is retained once the scan has completed.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueFieldScanner {
+
+  private final ResourceLoader resourceLoader;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final StaticValueScanScope scope;
+  private final int parallelism;
+
+  /**
+   * Creates a new scanner.
+   *
+   * @param resourceLoader to resolve classpath resources and load classes with.
+   * @param scope of classes to scan.
+   * @param parallelism the maximum number of base packages to scan in parallel.
+   */
+  StaticValueFieldScanner(
+      final ResourceLoader resourceLoader,
+      final StaticValueScanScope scope,
+      final int parallelism) {
+    this.resourceLoader = resourceLoader;
+    this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+    this.scope = scope;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Scans all base packages of the {@link StaticValueScanScope}.
+   *
+   * @return the fields annotated with {@link StaticValue}, or bound by {@link
+   *     StaticConfigurationProperties}, in no particular order.
+   */
+  List<Field> scan() {
+    return scan(Set.of());
+  }
+
+  /**
+   * Scans all base packages of the {@link StaticValueScanScope}, skipping the {@code skippedRoots}.
+   *
+   * @param skippedRoots the URLs of the classpath roots which are not scanned, as they contain an
+   *     index (see {@link StaticValueIndex#load(ClassLoader, java.util.function.Predicate)}), or
+   *     their fields are cached by {@link StaticValueScanCache}.
+   * @return the fields annotated with {@link StaticValue}, or bound by {@link
+   *     StaticConfigurationProperties}, in no particular order.
+   */
+  List<Field> scan(final Set<String> skippedRoots) {
+    final List<String> basePackages = scope.basePackages();
+    if (basePackages.size() <= 1 || parallelism <= 1) {
+      return basePackages.stream()
+          .map(basePackage -> scan(basePackage, skippedRoots))
+          .flatMap(List::stream)
+          .toList();
+    }
+    final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, basePackages.size()));
+    try {
+      return pool.submit(
+              () ->
+                  basePackages.parallelStream()
+                      .map(basePackage -> scan(basePackage, skippedRoots))
+                      .flatMap(List::stream)
+                      .toList())
+          .join();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private List<Field> scan(final String basePackage, final Set<String> skippedRoots) {
+    final String packagePath = basePackage.replace('.', '/') + '/';
+    final List<String> locationPatterns =
+        skippedRoots.isEmpty()
+            ? List.of(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath)
+            : StaticValueIndex.unindexedRoots(
+                    resourceLoader.getClassLoader(), basePackage, skippedRoots)
+                .stream()
+                .map(root -> root + packagePath)
+                .toList();
+    final List<Field> fields = new ArrayList<>();
+    for (final String locationPattern : locationPatterns) {
+      for (final Resource resource : getResources(locationPattern + "**/*.class")) {
+        final Class<?> clazz = loadIfMatching(resource);
+        if (clazz != null) {
+          Arrays.stream(clazz.getDeclaredFields())
+              .filter(StaticConfigurationPropertiesFields::isInjectable)
+              .forEach(fields::add);
+        }
+      }
+    }
+    return fields;
+  }
+
+  private Resource[] getResources(final String locationPattern) {
+    try {
+      return resourcePatternResolver.getResources(locationPattern);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not resolve " + locationPattern, e);
+    }
+  }
+
+  /**
+   * Loads the class of the {@code resource}, without initializing it, if it is matched by the
+   * {@link StaticValueScanScope} and the {@link StaticValueTypeFilter}.
+   *
+   * @param resource of the class file.
+   * @return the class, or {@code null} if it is not matched.
+   */
+  private Class<?> loadIfMatching(final Resource resource) {
+    final ClassReader classReader;
+    try (final InputStream inputStream = resource.getInputStream()) {
+      classReader = new ClassReader(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read " + resource, e);
+    }
+    final String className = classReader.getClassName().replace('/', '.');
+    if (!scope.matchesPatterns(className) || !StaticValueTypeFilter.matches(classReader)) {
+      return null;
+    }
+    try {
+      return Class.forName(className, false, resourceLoader.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw StaticValueInjectorException.classNotFound(className, e);
+    }
+  }
+}
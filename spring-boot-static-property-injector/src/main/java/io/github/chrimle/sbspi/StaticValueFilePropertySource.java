@@ -0,0 +1,136 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * {@link PropertySource} of a {@code .properties} or {@code .yml} file, which may be reloaded when
+ * the file changes. Reloading replaces all properties at once, and returns the keys whose values
+ * have been added, removed or changed.
+ *
+ * <p>A missing file is treated as an empty file, since files are commonly replaced by deleting and
+ * re-creating them.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueFilePropertySource extends EnumerablePropertySource<Path> {
+
+  /** The prefix of the names of file property sources, followed by the path of the file. */
+  static final String NAME_PREFIX = "sbspiWatchedFile:";
+
+  private volatile Map<String, Object> properties;
+
+  /**
+   * Creates a new property source, and loads the properties of the {@code file}.
+   *
+   * @param file to load properties from.
+   * @throws IOException if the file could not be read.
+   */
+  StaticValueFilePropertySource(final Path file) throws IOException {
+    super(NAME_PREFIX + file, file.toAbsolutePath().normalize());
+    this.properties = load(getSource());
+  }
+
+  @Override
+  public Object getProperty(final String name) {
+    return properties.get(name);
+  }
+
+  @Override
+  public boolean containsProperty(final String name) {
+    return properties.containsKey(name);
+  }
+
+  @Override
+  public String[] getPropertyNames() {
+    return properties.keySet().toArray(String[]::new);
+  }
+
+  /**
+   * Loads the properties of the file again, and replaces the current properties.
+   *
+   * @return the keys of the properties which have been added, removed or changed.
+   * @throws IOException if the file could not be read. The current properties are then retained.
+   */
+  synchronized Set<String> reload() throws IOException {
+    final Map<String, Object> reloadedProperties = load(getSource());
+    final Set<String> changedKeys = diff(properties, reloadedProperties);
+    properties = reloadedProperties;
+    return changedKeys;
+  }
+
+  /**
+   * Returns the keys of the properties which differ between {@code oldProperties} and {@code
+   * newProperties}.
+   *
+   * @param oldProperties before the change.
+   * @param newProperties after the change.
+   * @return the keys of the properties which have been added, removed or changed.
+   */
+  static Set<String> diff(
+      final Map<String, Object> oldProperties, final Map<String, Object> newProperties) {
+    final Set<String> changedKeys = new HashSet<>();
+    oldProperties.forEach(
+        (key, value) -> {
+          if (!Objects.equals(value, newProperties.get(key))) {
+            changedKeys.add(key);
+          }
+        });
+    newProperties.keySet().stream()
+        .filter(key -> !oldProperties.containsKey(key))
+        .forEach(changedKeys::add);
+    return changedKeys;
+  }
+
+  private static Map<String, Object> load(final Path file) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return Map.of();
+    }
+    final String fileName = file.getFileName().toString();
+    final PropertySourceLoader loader =
+        fileName.endsWith(".yml") || fileName.endsWith(".yaml")
+            ? new YamlPropertySourceLoader()
+            : new PropertiesPropertySourceLoader();
+    final Map<String, Object> properties = new HashMap<>();
+    for (final PropertySource<?> propertySource :
+        loader.load(fileName, new FileSystemResource(file))) {
+      if (propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource) {
+        for (final String name : enumerablePropertySource.getPropertyNames()) {
+          properties.put(name, enumerablePropertySource.getProperty(name));
+        }
+      }
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+
+/**
+ * {@link EnvironmentPostProcessor} adding a {@link StaticValueFilePropertySource} for each of the
+ * comma-separated files of {@code sbspi.watch.files}. The files take precedence over all other
+ * property sources, and earlier files over later ones. The files are watched for changes by {@link
+ * StaticValueFileWatcher}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public class StaticValueFilePropertySourcePostProcessor implements EnvironmentPostProcessor {
+
+  /** The property listing the files to watch. */
+  static final String WATCH_FILES_PROPERTY = "sbspi.watch.files";
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueFilePropertySourcePostProcessor() {}
+
+  @Override
+  public void postProcessEnvironment(
+      final ConfigurableEnvironment environment, final SpringApplication application) {
+    final String[] files = environment.getProperty(WATCH_FILES_PROPERTY, String[].class);
+    if (files == null) {
+      return;
+    }
+    final MutablePropertySources propertySources = environment.getPropertySources();
+    for (int i = files.length - 1; i >= 0; i--) {
+      if (files[i].isBlank()) {
+        continue;
+      }
+      final Path file = Path.of(files[i].strip());
+      try {
+        propertySources.addFirst(new StaticValueFilePropertySource(file));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read " + file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the files of {@code sbspi.watch.files} for changes, and re-injects the fields referencing
+ * any changed property, by invoking {@link StaticValueInjector#reinject(Set)}.
+ *
+ * <p>Any change event in the directory of a watched file causes every watched file of that
+ * directory to be checked, as files may be replaced without an event naming them; e.g. the files of
+ * a Kubernetes {@code ConfigMap} or {@code Secret} are symbolic links via {@code ..data}, which is
+ * atomically swapped. A file is only reloaded if a hash of its content has changed.
+ *
+ * <p>Bursts of change events, such as those caused by editors writing a file in several steps, are
+ * coalesced: a file is only reloaded once no further events have been received within {@code
+ * sbspi.watch.debounce} (default: 250ms). The properties of each reloaded file are compared to the
+ * previous ones, and only the keys which have been added, removed or changed are re-injected.
+ *
+ * <p>This watcher is only registered when {@code sbspi.watch.files} is set. Files are watched by a
+ * single daemon thread, from the start of the application context until it is stopped.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Component
+@ConditionalOnProperty(name = StaticValueFilePropertySourcePostProcessor.WATCH_FILES_PROPERTY)
+public class StaticValueFileWatcher implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StaticValueFileWatcher.class);
+
+  private final StaticValueInjector staticValueInjector;
+  private final ConfigurableEnvironment environment;
+
+  @Value("${sbspi.watch.debounce:250ms}")
+  private Duration debounce;
+
+  private volatile WatchService watchService;
+  private Thread thread;
+  private final Map<StaticValueFilePropertySource, String> contentHashes =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @param staticValueInjector to re-inject fields with.
+   * @param environment containing the {@link StaticValueFilePropertySource}s to watch.
+   * @since 0.2.0
+   */
+  public StaticValueFileWatcher(
+      final StaticValueInjector staticValueInjector, final ConfigurableEnvironment environment) {
+    this.staticValueInjector = staticValueInjector;
+    this.environment = environment;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (watchService != null) {
+      return;
+    }
+    final Map<Path, StaticValueFilePropertySource> files = new HashMap<>();
+    for (final PropertySource<?> propertySource : environment.getPropertySources()) {
+      if (propertySource instanceof StaticValueFilePropertySource filePropertySource) {
+        files.put(filePropertySource.getSource(), filePropertySource);
+      }
+    }
+    if (files.isEmpty()) {
+      return;
+    }
+    files.values().forEach(file -> contentHashes.put(file, contentHash(file.getSource())));
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      for (final Path directory :
+          files.keySet().stream().map(Path::getParent).distinct().toList()) {
+        directory.register(
+            watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE);
+      }
+    } catch (IOException e) {
+      stop();
+      throw new UncheckedIOException("Could not watch " + files.keySet(), e);
+    }
+    thread = new Thread(() -> watch(watchService, files), "sbspi-file-watcher");
+    thread.setDaemon(true);
+    thread.start();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Watching {} for changes.", files.keySet());
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (watchService == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOGGER.warn("Could not close the watch service.", e);
+    }
+    watchService = null;
+    if (thread != null) {
+      thread.interrupt();
+      thread = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return watchService != null;
+  }
+
+  private void watch(
+      final WatchService watchService, final Map<Path, StaticValueFilePropertySource> files) {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final Set<StaticValueFilePropertySource> changedFiles = new LinkedHashSet<>();
+        WatchKey key = watchService.take();
+        do {
+          collectChangedFiles(key, files, changedFiles);
+          key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+        } while (key != null);
+        reload(changedFiles);
+      }
+    } catch (ClosedWatchServiceException e) {
+      // The application context has been stopped.
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void collectChangedFiles(
+      final WatchKey key,
+      final Map<Path, StaticValueFilePropertySource> files,
+      final Set<StaticValueFilePropertySource> changedFiles) {
+    final Path directory = (Path) key.watchable();
+    if (!key.pollEvents().isEmpty()) {
+      files.forEach(
+          (file, propertySource) -> {
+            if (file.getParent().equals(directory)) {
+              changedFiles.add(propertySource);
+            }
+          });
+    }
+    key.reset();
+  }
+
+  private void reload(final Set<StaticValueFilePropertySource> candidateFiles) {
+    final Set<String> changedKeys = new HashSet<>();
+    final Set<StaticValueFilePropertySource> changedFiles = new LinkedHashSet<>();
+    for (final StaticValueFilePropertySource propertySource : candidateFiles) {
+      final String contentHash = contentHash(propertySource.getSource());
+      if (contentHash.equals(contentHashes.put(propertySource, contentHash))) {
+        continue;
+      }
+      changedFiles.add(propertySource);
+      try {
+        changedKeys.addAll(propertySource.reload());
+      } catch (IOException | RuntimeException e) {
+        LOGGER.warn(
+            "Could not reload {}, retaining its previous properties.",
+            propertySource.getSource(),
+            e);
+      }
+    }
+    if (changedKeys.isEmpty()) {
+      return;
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Properties {} changed in {}.", changedKeys, changedFiles);
+    }
+    try {
+      staticValueInjector.reinject(changedKeys);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not re-inject fields affected by changes to {}.", changedKeys, e);
+    }
+  }
+
+  /**
+   * Returns a hash of the content of the {@code file}, following symbolic links.
+   *
+   * @param file to hash.
+   * @return the hash, or an empty string if the file could not be read.
+   */
+  private static String contentHash(final Path file) {
+    try {
+      return HexFormat.of()
+          .formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+    } catch (IOException e) {
+      return "";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blocks the startup of the application until {@link StaticValueInjector} has injected all fields
+ * in the background. As {@link ApplicationStartedEvent} is published before any runners are called,
+ * and before {@code ApplicationReadyEvent}, the application is not ready until the fields have been
+ * injected.
+ *
+ * <p>This listener is only registered when {@code sbspi.async.enabled=true}. If the fields have not
+ * been injected within {@code sbspi.async.timeout} (default: 60s), the startup fails.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Component
+@ConditionalOnProperty(name = "sbspi.async.enabled", havingValue = "true")
+public class StaticValueInjectionBarrier implements ApplicationListener<ApplicationStartedEvent> {
+
+  private final StaticValueInjector staticValueInjector;
+
+  @Value("${sbspi.async.timeout:60s}")
+  private Duration timeout;
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @param staticValueInjector to wait for.
+   * @since 0.2.0
+   */
+  public StaticValueInjectionBarrier(final StaticValueInjector staticValueInjector) {
+    this.staticValueInjector = staticValueInjector;
+  }
+
+  @Override
+  public void onApplicationEvent(final ApplicationStartedEvent event) {
+    try {
+      if (!staticValueInjector.awaitInjected(timeout)) {
+        throw new IllegalStateException(
+            "Fields annotated with @StaticValue were not injected within " + timeout);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for @StaticValue injection", e);
+    }
+  }
+}
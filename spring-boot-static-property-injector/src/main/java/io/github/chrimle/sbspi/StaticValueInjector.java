@@ -0,0 +1,1394 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Processes all classes within the base packages ({@code sbspi.basePackage}) and processes
+ * <em>static fields</em> annotated with {@link StaticValue}.
+ *
+ * <p>This bean is registered by {@link StaticValueInjectorAutoConfiguration} whenever {@code
+ * sbspi.basePackage} is set. Without Spring, fields may instead be injected by {@link
+ * StaticValues}.
+ *
+ * <p>The classes within the base packages are scanned <em>exactly once</em> per application
+ * context, and the annotated fields are injected <em>exactly once</em>, when the first bean has
+ * been initialized. Subsequent beans do not trigger any further scanning nor injection.
+ *
+ * <p>By setting {@code sbspi.async.enabled=true}, the fields are instead scanned, and property
+ * placeholders and bound properties are injected, in the background, in parallel with the rest of
+ * the application context; on a virtual thread if supported by the JRE, or on the {@link Executor}
+ * bean named by {@code sbspi.async.executor}. SpEL expressions, which may reference beans, are
+ * evaluated by the refreshing thread once every singleton has been instantiated. The application
+ * context is not refreshed until the fields have been injected, or {@code sbspi.async.timeout} has
+ * elapsed. Other threads may wait for the injection by invoking {@link #awaitInjected(Duration)}.
+ *
+ * <p>If the <em>static value index</em> generated by {@link StaticValueIndexProcessor} is present
+ * on the classpath, the annotated fields are loaded from it, and only the directories and jars
+ * without an index are scanned. The index may be disabled by setting {@code
+ * sbspi.index.enabled=false}.
+ *
+ * <p>Multiple, comma-separated, base packages may be configured. These are scanned in parallel,
+ * using at most {@code sbspi.scan.parallelism} threads. Classes may be further included or excluded
+ * by setting {@code sbspi.includePatterns} and {@code sbspi.excludePatterns} to regular expressions
+ * matching fully qualified class names. Fields are injected in a deterministic order; sorted by the
+ * name of the declaring class, and then by the order of declaration.
+ *
+ * <p>By setting {@code sbspi.cache.directory}, the fields found by scanning are cached on disk, and
+ * are reused by subsequent startups as long as the scanned jars and directories are unchanged.
+ *
+ * <p>SpEL expressions are parsed once, and cached. By setting {@code sbspi.spel.compilerMode} to
+ * {@code IMMEDIATE} or {@code MIXED}, repeatedly evaluated expressions are compiled to bytecode.
+ *
+ * <p>Fields are written through {@link java.lang.invoke.VarHandle}s, which are resolved once per
+ * field. The memory semantics of the writes are set by {@code sbspi.memorySemantics}, as one of
+ * {@code PLAIN} (default), {@code RELEASE} or {@code VOLATILE}.
+ *
+ * <p>After the initial injection, fields may be re-injected when properties change, by invoking
+ * {@link #reinject(Set)} with the changed property keys. Only the fields referencing any of those
+ * keys are resolved and written again. The files of {@code sbspi.watch.files} are re-injected this
+ * way by {@link StaticValueFileWatcher}.
+ *
+ * <p>Resolved values are converted directly to the (generic) type of each field, using the {@link
+ * ConversionService} of the application. SpEL expressions are evaluated to typed values, which are
+ * only converted if they are not already assignable to the field.
+ *
+ * <p>Every {@code static} field of classes annotated with {@link StaticConfigurationProperties} is
+ * bound to the properties under its prefix, using the {@link Binder} of Spring Boot.
+ *
+ * <p>When {@link StaticValueBatchResolver} beans are present, the property keys of all fields are
+ * prefetched in batches before any field is resolved.
+ *
+ * <p>Within each injection pass, fields with identical property placeholders ({@code ${...}}) and
+ * types are only resolved and converted once, and the value is shared by all of them, if it is
+ * immutable (e.g. a {@code String}, a primitive wrapper, an enum or a {@code Duration}). SpEL
+ * expressions, which may be non-deterministic or have side effects, and mutable values, such as
+ * {@code List}s, are resolved for every field. This may be disabled by setting {@code
+ * sbspi.resolution.deduplicate=false}.
+ *
+ * <p>Scanning, resolving, converting and assigning are recorded as JFR events in the category
+ * <em>Static Property Injector</em>. When Micrometer is on the classpath, metrics are bound by
+ * {@link StaticValueInjectorMetrics}, and when Spring Boot Actuator is on the classpath, the
+ * injected fields are listed by the {@code staticvalues} endpoint ({@link StaticValuesEndpoint}).
+ *
+ * <p>When the application has been processed ahead-of-time, the fields found at build-time by
+ * {@link StaticValueAotProcessor} are used, and neither the index nor the classpath is read at
+ * startup.
+ *
+ * <p>Fields of type {@link StaticProperty} are assigned a holder, which resolves the value on first
+ * access instead of at startup. Such holders are refreshed, rather than re-assigned, by {@link
+ * #reinject(Set)}.
+ *
+ * <p>When the <em>static value agent</em> ({@code static-property-injector-agent}) is attached, the
+ * base packages which it instruments are not scanned. Instead, classes are injected as they are
+ * initialized, as reported by {@link StaticValueClassInitializations}. Classes initialized before
+ * the application context was ready are injected when the first bean has been initialized, and
+ * classes initialized afterwards are injected by their initializing thread, before they may be used
+ * by any other thread, logging any failure. Base packages which the agent does not entirely
+ * instrument are still scanned.
+ *
+ * <p>By default, injection stops at the first field which cannot be injected. By setting {@code
+ * sbspi.validation.mode=AGGREGATE}, all fields are instead resolved and converted before any is
+ * assigned, and every failure is thrown at once. Property placeholders and bound properties are
+ * then resolved in parallel, by a pool of {@code sbspi.validation.parallelism} threads which is
+ * shared by all validation passes, whereas SpEL expressions are evaluated sequentially. With {@code
+ * sbspi.validation.mode=DRY_RUN}, the fields are validated the same way, but none are assigned. The
+ * fields may also be validated at any time by {@link #validate()}.
+ *
+ * <p>The current values of all annotated fields may be captured by {@link #snapshot()}, and later
+ * restored by {@link StaticValueSnapshot#restore()}.
+ *
+ * <p>Once the fields have been injected, state which is only needed for scanning is released. By
+ * setting {@code sbspi.reload.enabled=false}, the table of annotated fields, the property key index
+ * and - unless there are {@link StaticProperty} fields left to resolve - the parsed expressions are
+ * released as well, after which {@link #reinject(Set)} does nothing.
+ *
+ * @since 0.1.0
+ * @author Chrimle
+ */
+@Component
+public class StaticValueInjector
+    implements BeanPostProcessor,
+        ApplicationContextAware,
+        SmartInitializingSingleton,
+        DisposableBean {
+
+  /**
+   * The annotation class which to process.
+   *
+   * @since 0.1.0
+   */
+  public static final Class<StaticValue> STATIC_VALUE_CLASS = StaticValue.class;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StaticValueInjector.class);
+
+  private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+  private static final Object UNRESOLVED = new Object();
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES =
+      Set.of(
+          BigDecimal.class,
+          BigInteger.class,
+          Class.class,
+          DataSize.class,
+          Locale.class,
+          Pattern.class,
+          URI.class,
+          UUID.class);
+
+  private static final String BATCH_PROPERTY_SOURCE_NAME = "staticValueBatchResolver";
+
+  /** The default parallelism of scanning and validating fields; the number of processors. */
+  private static final String AVAILABLE_PROCESSORS =
+      "#{T(java.lang.Runtime).getRuntime().availableProcessors()}";
+
+  private static final Comparator<Field> FIELD_ORDER =
+      Comparator.comparing(field -> field.getDeclaringClass().getName());
+
+  @Value("${sbspi.index.enabled:true}")
+  private boolean indexEnabled;
+
+  @Value("${sbspi.scan.parallelism:" + AVAILABLE_PROCESSORS + "}")
+  private int scanParallelism;
+
+  @Value("${sbspi.spel.compilerMode:OFF}")
+  private SpelCompilerMode spelCompilerMode;
+
+  @Value("${sbspi.memorySemantics:PLAIN}")
+  private StaticFieldMemorySemantics memorySemantics;
+
+  @Value("${sbspi.cache.directory:}")
+  private String cacheDirectory;
+
+  @Value("${sbspi.resolution.deduplicate:true}")
+  private boolean deduplicate;
+
+  @Value("${sbspi.batch.concurrency:4}")
+  private int batchConcurrency;
+
+  @Value("${sbspi.batch.timeout:10s}")
+  private Duration batchTimeout;
+
+  @Value("${sbspi.async.enabled:false}")
+  private boolean asyncEnabled;
+
+  @Value("${sbspi.async.executor:}")
+  private String asyncExecutor;
+
+  @Value("${sbspi.async.timeout:60s}")
+  private Duration asyncTimeout;
+
+  @Value("${sbspi.reload.enabled:true}")
+  private boolean reloadEnabled;
+
+  @Value("${sbspi.validation.mode:FAIL_FAST}")
+  private StaticValueValidationMode validationMode;
+
+  @Value("${sbspi.validation.parallelism:" + AVAILABLE_PROCESSORS + "}")
+  private int validationParallelism;
+
+  private ApplicationContext context;
+  private StaticValueScanScope scope;
+  private StaticValueExpressionCache expressionCache;
+  private ConversionService conversionService;
+  private final StandardEvaluationContext evalContext = new StandardEvaluationContext();
+  private final AtomicBoolean injected = new AtomicBoolean();
+  private final CountDownLatch injectedLatch = new CountDownLatch(1);
+  private volatile Throwable injectionFailure;
+  private CompletableFuture<Void> backgroundInjection;
+  private List<StaticValueField> annotatedFields;
+  private volatile StaticValuePropertyKeyIndex propertyKeyIndex;
+  private StaticValueAotFields aotFields;
+  private final Object validationPoolLock = new Object();
+  private ForkJoinPool validationPool;
+  private final Object batchPropertySourceLock = new Object();
+  private final Consumer<Class<?>> classInjector = this::injectClass;
+  private Binder binder;
+  private List<StaticValueBatchResolver> batchResolvers;
+  private final StaticValueInjectorStatistics statistics = new StaticValueInjectorStatistics();
+  private final Map<Field, InjectedStaticValue> injectedStaticValues = new ConcurrentHashMap<>();
+  private final Map<Field, StaticProperty<?>> staticProperties = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @since 0.1.0
+   */
+  public StaticValueInjector() {}
+
+  @Override
+  public void setApplicationContext(final ApplicationContext applicationContext)
+      throws BeansException {
+    this.context = applicationContext;
+    this.scope = StaticValueScanScope.bind(context.getEnvironment());
+    this.expressionCache =
+        new StaticValueExpressionCache(spelCompilerMode, context.getClassLoader());
+    ConfigurableListableBeanFactory beanFactory =
+        ((ConfigurableApplicationContext) context).getBeanFactory();
+    this.evalContext.setBeanResolver(new BeanFactoryResolver(Objects.requireNonNull(beanFactory)));
+    this.evalContext.setRootObject(context.getEnvironment());
+  }
+
+  /**
+   * Returns the number of times a parsed SpEL expression was reused, instead of being parsed again.
+   *
+   * @since 0.2.0
+   * @return the number of expression cache hits.
+   */
+  public long getExpressionCacheHits() {
+    return expressionCache.hits();
+  }
+
+  /**
+   * Returns the number of times a SpEL expression had to be parsed.
+   *
+   * @since 0.2.0
+   * @return the number of expression cache misses.
+   */
+  public long getExpressionCacheMisses() {
+    return expressionCache.misses();
+  }
+
+  /**
+   * Returns the number of times an expression was not resolved, because another field with the same
+   * expression and type had already been resolved in the same injection pass.
+   *
+   * @since 0.2.0
+   * @return the number of saved evaluations.
+   */
+  public long getSavedEvaluations() {
+    return statistics.evaluationsSaved();
+  }
+
+  /**
+   * Returns the most recent injection of each annotated field, in the order of injection. If the
+   * annotated fields have been released ({@code sbspi.reload.enabled=false}), the fields are
+   * instead ordered by class and field name.
+   *
+   * @since 0.2.0
+   * @return the injected fields, or an empty list if the fields have not yet been injected.
+   */
+  public List<InjectedStaticValue> getInjectedStaticValues() {
+    final List<StaticValueField> fields = annotatedFields;
+    if (fields == null) {
+      return injectedStaticValues.values().stream()
+          .sorted(
+              Comparator.comparing(InjectedStaticValue::className)
+                  .thenComparing(InjectedStaticValue::fieldName))
+          .toList();
+    }
+    return fields.stream()
+        .map(staticValueField -> injectedStaticValues.get(staticValueField.field()))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  StaticValueInjectorStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+    if (!injected.compareAndSet(false, true)) {
+      return bean;
+    }
+    if (asyncEnabled && !StaticValueClassInitializations.isAgentAttached()) {
+      // Everything which may create or invoke beans is done by the refreshing thread
+      getConversionService();
+      getBinder();
+      getBatchResolvers();
+      lookUpAotFields();
+      backgroundInjection =
+          CompletableFuture.runAsync(this::injectEnvironmentFields, getAsyncExecutor());
+    } else {
+      injectAndRelease();
+    }
+    return bean;
+  }
+
+  /**
+   * Evaluates the SpEL expressions of the annotated fields, once every singleton has been
+   * instantiated, and the property placeholders and bound properties have been injected in the
+   * background. Only invoked when {@code sbspi.async.enabled=true}.
+   *
+   * @since 0.2.0
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    final CompletableFuture<Void> background = backgroundInjection;
+    if (background == null) {
+      return;
+    }
+    backgroundInjection = null;
+    try {
+      awaitBackgroundInjection(background);
+      injectSpelFields();
+    } catch (RuntimeException | Error e) {
+      injectionFailure = e;
+      throw e;
+    } finally {
+      injectedLatch.countDown();
+    }
+  }
+
+  private void awaitBackgroundInjection(final CompletableFuture<Void> background) {
+    try {
+      background.get(asyncTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(
+          "Fields annotated with @StaticValue were not injected within " + asyncTimeout, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for @StaticValue injection", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      } else if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Waits until the fields have been injected, for at most the {@code timeout}. Every thread which
+   * returns {@code true} from this method is guaranteed to see the injected values.
+   *
+   * <p>Unless {@code sbspi.async.enabled=true}, fields are injected synchronously during the
+   * initialization of the first bean. Either way, this method returns immediately once the
+   * application context has been refreshed.
+   *
+   * @since 0.2.0
+   * @param timeout the maximum time to wait.
+   * @return {@code true} if the fields have been injected, or {@code false} if the timeout elapsed.
+   * @throws InterruptedException if interrupted while waiting.
+   * @throws StaticValueInjectorException if injecting the fields failed.
+   */
+  public boolean awaitInjected(final Duration timeout) throws InterruptedException {
+    if (!injectedLatch.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+      return false;
+    }
+    final Throwable failure = injectionFailure;
+    if (failure instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    } else if (failure instanceof Error error) {
+      throw error;
+    }
+    return true;
+  }
+
+  private void injectAndRelease() {
+    try {
+      injectStaticProperties();
+    } catch (RuntimeException | Error e) {
+      injectionFailure = e;
+      throw e;
+    } finally {
+      injectedLatch.countDown();
+    }
+  }
+
+  private Executor getAsyncExecutor() {
+    if (!asyncExecutor.isBlank()) {
+      return context.getBean(asyncExecutor, Executor.class);
+    }
+    final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sbspi-injector-");
+    executor.setVirtualThreads(Runtime.version().feature() >= 21);
+    return executor;
+  }
+
+  /**
+   * Takes a {@link StaticValueSnapshot} of the current values of all annotated fields, which may
+   * later be restored. This allows tests to temporarily override fields, see {@code
+   * io.github.chrimle.sbspi.junit.StaticValueSnapshotExtension}.
+   *
+   * @since 0.2.0
+   * @return the snapshot of all annotated fields.
+   * @throws IllegalStateException if the fields have not yet been injected, or if the annotated
+   *     fields have been released ({@code sbspi.reload.enabled=false}).
+   */
+  public synchronized StaticValueSnapshot snapshot() {
+    return new StaticValueSnapshot(requireAnnotatedFields());
+  }
+
+  /**
+   * Resolves and converts all annotated fields, including those of type {@link StaticProperty},
+   * using the current properties, without assigning any of them. Every failure is collected, rather
+   * than thrown. This allows a set of properties to be validated against all fields at once.
+   *
+   * @since 0.2.0
+   * @return the report of the validated fields.
+   * @throws IllegalStateException if the fields have not yet been injected, or if the annotated
+   *     fields have been released ({@code sbspi.reload.enabled=false}).
+   */
+  public synchronized StaticValueValidationReport validate() {
+    final List<StaticValueField> fields = requireAnnotatedFields();
+    prefetch(fields);
+    return reportOf(fields, resolveAll(fields, true));
+  }
+
+  private List<StaticValueField> requireAnnotatedFields() {
+    if (annotatedFields == null) {
+      throw new IllegalStateException(
+          injectedStaticValues.isEmpty()
+              ? "Fields annotated with @StaticValue have not yet been injected"
+              : "Fields annotated with @StaticValue have been released, as"
+                  + " sbspi.reload.enabled=false");
+    }
+    return annotatedFields;
+  }
+
+  /**
+   * Re-injects the fields referencing any of the {@code changedKeys}, either as a property
+   * placeholder or as a literal argument to {@code getProperty} in a SpEL expression. SpEL
+   * expressions which look up properties by non-literal arguments are always re-injected.
+   *
+   * <p>If the fields have not yet been injected, this method does nothing, as the current values
+   * will be resolved by the initial injection. If {@code sbspi.reload.enabled=false}, this method
+   * always does nothing.
+   *
+   * @since 0.2.0
+   * @param changedKeys the keys of the properties which have changed.
+   * @return the number of fields which were re-injected.
+   */
+  public synchronized int reinject(final Set<String> changedKeys) {
+    if (annotatedFields == null) {
+      return 0;
+    }
+    if (propertyKeyIndex == null) {
+      propertyKeyIndex = new StaticValuePropertyKeyIndex(annotatedFields, this::getPropertyKeys);
+    }
+    final List<StaticValueField> affectedFields = propertyKeyIndex.affectedBy(changedKeys);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Re-injecting {} fields affected by changes to {}.", affectedFields.size(), changedKeys);
+    }
+    injectAll(affectedFields);
+    return affectedFields.size();
+  }
+
+  /**
+   * Scans the annotated fields, and injects the fields whose values only depend on the {@link
+   * org.springframework.core.env.Environment}; property placeholders and bound properties. Invoked
+   * in the background when {@code sbspi.async.enabled=true}, and therefore MUST NOT create or
+   * invoke any beans other than those already looked up by the refreshing thread.
+   */
+  private synchronized void injectEnvironmentFields() {
+    final List<StaticValueField> allAnnotatedFields = getAnnotatedFields();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Found {} fields annotated with {}.",
+          allAnnotatedFields.size(),
+          STATIC_VALUE_CLASS.getSimpleName());
+    }
+    injectAll(allAnnotatedFields.stream().filter(field -> !isSpelField(field)).toList());
+  }
+
+  /**
+   * Injects the fields with SpEL expressions, which may reference beans, and releases the state
+   * which is no longer needed. Invoked by the refreshing thread after {@link
+   * #injectEnvironmentFields()}.
+   */
+  private synchronized void injectSpelFields() {
+    injectAll(getAnnotatedFields().stream().filter(StaticValueInjector::isSpelField).toList());
+    release();
+  }
+
+  private static boolean isSpelField(final StaticValueField staticValueField) {
+    return !staticValueField.bound()
+        && staticValueField.annotationValue() != null
+        && isSpelExpression(staticValueField.annotationValue());
+  }
+
+  private synchronized void injectStaticProperties() {
+    if (StaticValueClassInitializations.isAgentAttached()) {
+      injectReportedClasses();
+      return;
+    }
+
+    final List<StaticValueField> allAnnotatedFields = getAnnotatedFields();
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Found {} fields annotated with {}.",
+          allAnnotatedFields.size(),
+          STATIC_VALUE_CLASS.getSimpleName());
+    }
+
+    injectAll(allAnnotatedFields);
+    release();
+  }
+
+  /**
+   * Injects the fields of the classes reported by {@link StaticValueClassInitializations}, as they
+   * are initialized, and scans the base packages which are not entirely instrumented by the
+   * <em>static value agent</em>. As further classes may be reported at any time, the annotated
+   * fields are never released, and the validation mode applies to each class separately.
+   */
+  private void injectReportedClasses() {
+    final StaticValueScanScope uninstrumentedScope = scope.uninstrumented();
+    final List<StaticValueField> scannedFields;
+    if (uninstrumentedScope.basePackages().isEmpty()) {
+      scannedFields = List.of();
+    } else {
+      LOGGER.warn(
+          "The base packages {} are not entirely instrumented by the static value agent, and are"
+              + " scanned instead.",
+          uninstrumentedScope.basePackages());
+      scannedFields =
+          scanAnnotatedFields(uninstrumentedScope).stream()
+              .filter(
+                  staticValueField ->
+                      !StaticValueClassInitializations.isInstrumented(
+                          staticValueField.field().getDeclaringClass().getPackageName()))
+              .toList();
+    }
+    annotatedFields = new CopyOnWriteArrayList<>(scannedFields);
+    // Initialized before publishing, as reported classes are injected concurrently
+    lookUpAotFields();
+    getConversionService();
+    getBinder();
+    getBatchResolvers();
+    LOGGER.info(
+        "Injecting fields annotated with {} as their classes are initialized, as reported by the"
+            + " static value agent.",
+        STATIC_VALUE_CLASS.getSimpleName());
+    if (!reloadEnabled) {
+      LOGGER.info(
+          "The annotated fields are not released, although sbspi.reload.enabled=false, as further"
+              + " classes may be reported by the static value agent.");
+    }
+    if (validationMode != StaticValueValidationMode.FAIL_FAST) {
+      LOGGER.info(
+          "sbspi.validation.mode={} applies to the fields of each class reported by the static"
+              + " value agent separately.",
+          validationMode);
+    }
+    injectAll(scannedFields);
+    StaticValueClassInitializations.publish(classInjector);
+  }
+
+  /**
+   * Injects the annotated fields of the {@code clazz}, which has just been initialized. Invoked by
+   * {@link StaticValueClassInitializations} when the <em>static value agent</em> is attached,
+   * typically by the thread initializing the {@code clazz}, while it holds the initialization lock
+   * of the {@code clazz}. Therefore, this method MUST NOT hold the monitor of this injector, or any
+   * other lock which may be held by a thread initializing another class, as that could deadlock.
+   * Everything it requires is initialized before it is published.
+   *
+   * @param clazz which has been initialized.
+   */
+  private void injectClass(final Class<?> clazz) {
+    if (!scope.includes(clazz.getName())) {
+      return;
+    }
+    final List<StaticValueField> fields =
+        Arrays.stream(clazz.getDeclaredFields())
+            .filter(StaticConfigurationPropertiesFields::isInjectable)
+            .map(this::toStaticValueField)
+            .toList();
+    if (fields.isEmpty()) {
+      return;
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Injecting {} fields of initialized {}.", fields.size(), clazz.getName());
+    }
+    annotatedFields.addAll(fields);
+    propertyKeyIndex = null;
+    injectAll(fields);
+  }
+
+  @Override
+  public void destroy() {
+    StaticValueClassInitializations.withdraw(classInjector);
+    final ForkJoinPool pool;
+    synchronized (validationPoolLock) {
+      pool = validationPool;
+      validationPool = null;
+    }
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Releases the state which is no longer needed once the fields have been injected. Unless
+   * re-injection is enabled, this includes the annotated fields themselves.
+   */
+  private void release() {
+    aotFields = null;
+    if (reloadEnabled) {
+      return;
+    }
+    final boolean lazyFields = annotatedFields.stream().anyMatch(StaticValueField::isLazy);
+    annotatedFields = null;
+    propertyKeyIndex = null;
+    batchResolvers = null;
+    staticProperties.clear();
+    if (!lazyFields) {
+      expressionCache.clear();
+      binder = null;
+      evalContext.setBeanResolver(null);
+      evalContext.setRootObject(null);
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Released the annotated fields{}, as re-injection is disabled.",
+          lazyFields ? "" : " and parsed expressions");
+    }
+  }
+
+  private void injectAll(final List<StaticValueField> staticValueFields) {
+    prefetch(staticValueFields);
+    if (validationMode == StaticValueValidationMode.FAIL_FAST) {
+      final Map<Resolution, Object> resolvedValues = deduplicate ? new HashMap<>() : null;
+      for (final StaticValueField staticValueField : staticValueFields) {
+        inject(staticValueField, resolvedValues);
+      }
+      return;
+    }
+
+    final boolean dryRun = validationMode == StaticValueValidationMode.DRY_RUN;
+    final Outcome[] outcomes = resolveAll(staticValueFields, dryRun);
+    final StaticValueValidationReport report = reportOf(staticValueFields, outcomes);
+    report.throwIfInvalid();
+    if (dryRun) {
+      LOGGER.info(
+          "Validated {} fields annotated with {}, of which {} could not be resolved, without"
+              + " assigning them.",
+          report.fields(),
+          STATIC_VALUE_CLASS.getSimpleName(),
+          report.unresolvedFields().size());
+      return;
+    }
+    for (int i = 0; i < outcomes.length; i++) {
+      final StaticValueField staticValueField = staticValueFields.get(i);
+      if (staticValueField.isLazy()) {
+        injectLazily(staticValueField);
+      } else {
+        assign(staticValueField, outcomes[i].value(), outcomes[i].start());
+      }
+    }
+  }
+
+  /**
+   * Resolves and converts all {@code staticValueFields}, without assigning any of them, collecting
+   * every failure rather than throwing it. Property placeholders and bound properties are resolved
+   * in parallel, whereas SpEL expressions are evaluated sequentially by the calling thread, as they
+   * may invoke beans which are not thread-safe.
+   *
+   * @param staticValueFields to resolve.
+   * @param resolveLazily whether fields of type {@link StaticProperty} are resolved as well, rather
+   *     than only checked for an empty {@link StaticValue#value()}.
+   * @return the outcome of each field, in the order of the {@code staticValueFields}.
+   */
+  private Outcome[] resolveAll(
+      final List<StaticValueField> staticValueFields, final boolean resolveLazily) {
+    final Outcome[] outcomes = new Outcome[staticValueFields.size()];
+    final int[] representatives = new int[outcomes.length];
+    final Map<Resolution, Integer> resolutions = new HashMap<>();
+    final List<Integer> parallelIndices = new ArrayList<>();
+    // Initialized before resolving in parallel, as neither is initialized in a thread-safe manner
+    getConversionService();
+    getBinder();
+    for (int i = 0; i < outcomes.length; i++) {
+      final StaticValueField staticValueField = staticValueFields.get(i);
+      final String annotationValue = staticValueField.annotationValue();
+      representatives[i] = i;
+      if (deduplicate
+          && isDeduplicable(staticValueField)
+          && (resolveLazily || !staticValueField.isLazy())) {
+        final Integer representative =
+            resolutions.putIfAbsent(
+                new Resolution(annotationValue.strip(), staticValueField.targetType()), i);
+        if (representative != null) {
+          representatives[i] = representative;
+          statistics.evaluationSaved();
+          continue;
+        }
+      }
+      if (!staticValueField.bound()
+          && annotationValue != null
+          && isSpelExpression(annotationValue)) {
+        outcomes[i] = resolveOrFailure(staticValueField, resolveLazily);
+      } else {
+        parallelIndices.add(i);
+      }
+    }
+    resolveInParallel(staticValueFields, parallelIndices, outcomes, resolveLazily);
+    for (int i = 0; i < outcomes.length; i++) {
+      if (representatives[i] != i) {
+        final Outcome shared = outcomes[representatives[i]];
+        // Resolved again if mutable, or for the failure to refer to this field rather than the
+        // representative
+        outcomes[i] =
+            shared.failure() == null && isImmutable(shared.value())
+                ? shared
+                : resolveOrFailure(staticValueFields.get(i), resolveLazily);
+      }
+    }
+    return outcomes;
+  }
+
+  private void resolveInParallel(
+      final List<StaticValueField> staticValueFields,
+      final List<Integer> indices,
+      final Outcome[] outcomes,
+      final boolean resolveLazily) {
+    if (indices.size() <= 1 || validationParallelism <= 1) {
+      for (final int i : indices) {
+        outcomes[i] = resolveOrFailure(staticValueFields.get(i), resolveLazily);
+      }
+      return;
+    }
+    final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    getValidationPool()
+        .submit(
+            () ->
+                indices.parallelStream()
+                    .forEach(
+                        i -> {
+                          final Thread thread = Thread.currentThread();
+                          final ClassLoader previousClassLoader = thread.getContextClassLoader();
+                          thread.setContextClassLoader(classLoader);
+                          try {
+                            outcomes[i] = resolveOrFailure(staticValueFields.get(i), resolveLazily);
+                          } finally {
+                            thread.setContextClassLoader(previousClassLoader);
+                          }
+                        }))
+        .join();
+  }
+
+  /**
+   * Returns the pool which fields are resolved in parallel by, creating it on the first validation
+   * pass. The pool is shut down when this bean is destroyed.
+   *
+   * @return the pool of {@code sbspi.validation.parallelism} threads.
+   */
+  private ForkJoinPool getValidationPool() {
+    synchronized (validationPoolLock) {
+      if (validationPool == null) {
+        validationPool = new ForkJoinPool(validationParallelism);
+      }
+      return validationPool;
+    }
+  }
+
+  /**
+   * Resolves the {@code staticValueField} as {@link #resolve(StaticValueField)}, returning any
+   * failure rather than throwing it. Exceptions thrown by SpEL expressions are wrapped in a {@link
+   * StaticValueInjectorException}.
+   *
+   * @param staticValueField to resolve.
+   * @param resolveLazily whether to resolve the field if it is of type {@link StaticProperty}.
+   * @return the outcome of the field.
+   */
+  private Outcome resolveOrFailure(
+      final StaticValueField staticValueField, final boolean resolveLazily) {
+    final long start = System.nanoTime();
+    final Field field = staticValueField.field();
+    final String annotationValue = staticValueField.annotationValue();
+    if (staticValueField.writer() instanceof UnwritableFieldWriter unwritableFieldWriter) {
+      return new Outcome(null, unwritableFieldWriter.failure(), start);
+    }
+    try {
+      if (annotationValue == null || annotationValue.isBlank()) {
+        throw StaticValueInjectorException.emptyAnnotationValue(field, annotationValue);
+      }
+      final Object convertedValue =
+          staticValueField.isLazy() && !resolveLazily ? null : resolve(staticValueField);
+      return new Outcome(convertedValue, null, start);
+    } catch (final StaticValueInjectorException e) {
+      return new Outcome(null, e, start);
+    } catch (final RuntimeException e) {
+      return new Outcome(
+          null,
+          StaticValueInjectorException.unresolvableAnnotationValue(field, annotationValue, e),
+          start);
+    }
+  }
+
+  private static StaticValueValidationReport reportOf(
+      final List<StaticValueField> staticValueFields, final Outcome[] outcomes) {
+    final List<InjectedStaticValue> unresolvedFields = new ArrayList<>();
+    final List<StaticValueInjectorException> failures = new ArrayList<>();
+    for (int i = 0; i < outcomes.length; i++) {
+      if (outcomes[i].failure() != null) {
+        failures.add(outcomes[i].failure());
+      } else if (outcomes[i].value() == UNRESOLVED) {
+        unresolvedFields.add(unresolvedStaticValue(staticValueFields.get(i), outcomes[i].start()));
+      }
+    }
+    return new StaticValueValidationReport(outcomes.length, unresolvedFields, failures);
+  }
+
+  /**
+   * The outcome of resolving a field, when failures are aggregated.
+   *
+   * @param value the converted value, or {@link #UNRESOLVED} if a property placeholder could not be
+   *     resolved.
+   * @param failure the failure, or {@code null} if the field was resolved.
+   * @param start the time at which the field started being resolved, as by {@link
+   *     System#nanoTime()}.
+   */
+  private record Outcome(Object value, StaticValueInjectorException failure, long start) {}
+
+  /**
+   * Prefetches the property keys of the {@code staticValueFields} using the {@link
+   * StaticValueBatchResolver}s of the application, if any. The prefetched values are added as the
+   * last property source of the {@link org.springframework.core.env.Environment}, replacing any
+   * previously prefetched values of the same keys, meaning that they never override properties of
+   * any other property source.
+   *
+   * @param staticValueFields whose property keys to prefetch.
+   */
+  private void prefetch(final List<StaticValueField> staticValueFields) {
+    final List<StaticValueBatchResolver> resolvers = getBatchResolvers();
+    if (resolvers.isEmpty()) {
+      return;
+    }
+    final Set<String> keys = new LinkedHashSet<>();
+    for (final StaticValueField staticValueField : staticValueFields) {
+      final Set<String> propertyKeys = getPropertyKeys(staticValueField);
+      if (propertyKeys != null) {
+        keys.addAll(propertyKeys);
+      }
+    }
+    if (keys.isEmpty()) {
+      return;
+    }
+    final long start = System.nanoTime();
+    final Map<String, Object> values =
+        new StaticValueBatchPrefetcher(resolvers, batchConcurrency, batchTimeout).prefetch(keys);
+    final MutablePropertySources propertySources =
+        ((ConfigurableEnvironment) context.getEnvironment()).getPropertySources();
+    synchronized (batchPropertySourceLock) {
+      if (!(propertySources.get(BATCH_PROPERTY_SOURCE_NAME) instanceof MapPropertySource source)) {
+        propertySources.addLast(
+            new MapPropertySource(BATCH_PROPERTY_SOURCE_NAME, new ConcurrentHashMap<>(values)));
+      } else {
+        source.getSource().keySet().removeAll(keys);
+        source.getSource().putAll(values);
+      }
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Prefetched {} of {} property keys in {} ms.",
+          values.size(),
+          keys.size(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  /**
+   * Injects the {@code staticValueField}.
+   *
+   * @param staticValueField to inject.
+   * @param resolvedValues of the current injection pass, to reuse and add to, or {@code null} if
+   *     every field is resolved independently.
+   */
+  private void inject(
+      final StaticValueField staticValueField, final Map<Resolution, Object> resolvedValues) {
+    final Field field = staticValueField.field();
+    final String annotationValue = staticValueField.annotationValue();
+    if (annotationValue == null || annotationValue.isBlank()) {
+      throw StaticValueInjectorException.emptyAnnotationValue(field, annotationValue);
+    }
+    if (staticValueField.isLazy()) {
+      injectLazily(staticValueField);
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final Object convertedValue =
+        resolvedValues == null || !isDeduplicable(staticValueField)
+            ? resolve(staticValueField)
+            : resolveOnce(staticValueField, resolvedValues);
+    assign(staticValueField, convertedValue, start);
+  }
+
+  /**
+   * Assigns the {@code convertedValue} to the {@code staticValueField}, unless it is {@link
+   * #UNRESOLVED}.
+   *
+   * @param staticValueField to assign.
+   * @param convertedValue the resolved and converted value.
+   * @param start the time at which the field started being resolved, as by {@link
+   *     System#nanoTime()}.
+   */
+  private void assign(
+      final StaticValueField staticValueField, final Object convertedValue, final long start) {
+    final Field field = staticValueField.field();
+    if (convertedValue == UNRESOLVED) {
+      statistics.fieldUnresolved();
+      injectedStaticValues.put(field, unresolvedStaticValue(staticValueField, start));
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "The field {} will not be assigned a new value, because the 'value' could not be resolved!",
+            field.getName());
+      }
+      return;
+    }
+
+    final StaticValueAssignEvent assignEvent = new StaticValueAssignEvent();
+    assignEvent.begin();
+    staticValueField.writer().write(convertedValue);
+    assignEvent.commit(staticValueField);
+    statistics.fieldInjected();
+    injectedStaticValues.put(field, injectedStaticValue(staticValueField, convertedValue, start));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("The field {} has been assigned a new value!", field.getName());
+    }
+  }
+
+  private void injectLazily(final StaticValueField staticValueField) {
+    final Field field = staticValueField.field();
+    final StaticProperty<?> existingProperty = staticProperties.get(field);
+    if (existingProperty != null) {
+      existingProperty.refresh();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("The field {} has been refreshed!", field.getName());
+      }
+      return;
+    }
+    final StaticProperty<Object> staticProperty =
+        new StaticProperty<>(
+            () -> {
+              final long start = System.nanoTime();
+              final Object convertedValue = resolve(staticValueField);
+              if (convertedValue == UNRESOLVED) {
+                statistics.fieldUnresolved();
+                injectedStaticValues.put(field, unresolvedStaticValue(staticValueField, start));
+                return null;
+              }
+              statistics.fieldInjected();
+              injectedStaticValues.put(
+                  field, injectedStaticValue(staticValueField, convertedValue, start));
+              return convertedValue;
+            });
+    staticValueField.writer().write(staticProperty);
+    staticProperties.put(field, staticProperty);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("The field {} has been assigned a lazily resolved value!", field.getName());
+    }
+  }
+
+  /**
+   * Resolves the {@code staticValueField} as {@link #resolve(StaticValueField)}, unless a field
+   * with the same property placeholder and target type has already been resolved to an immutable
+   * value in the current injection pass.
+   *
+   * @param staticValueField to resolve.
+   * @param resolvedValues of the current injection pass.
+   * @return the converted value, or {@link #UNRESOLVED} if a property placeholder could not be
+   *     resolved.
+   */
+  private Object resolveOnce(
+      final StaticValueField staticValueField, final Map<Resolution, Object> resolvedValues) {
+    final Resolution resolution =
+        new Resolution(staticValueField.annotationValue().strip(), staticValueField.targetType());
+    if (resolvedValues.containsKey(resolution)) {
+      statistics.evaluationSaved();
+      return resolvedValues.get(resolution);
+    }
+    final Object convertedValue = resolve(staticValueField);
+    if (isImmutable(convertedValue)) {
+      resolvedValues.put(resolution, convertedValue);
+    }
+    return convertedValue;
+  }
+
+  /**
+   * Returns whether the value of the {@code staticValueField} may be shared with other fields with
+   * the same expression and target type; only if it is a property placeholder, which always
+   * resolves to the same value within an injection pass.
+   */
+  private static boolean isDeduplicable(final StaticValueField staticValueField) {
+    final String annotationValue = staticValueField.annotationValue();
+    return !staticValueField.bound()
+        && annotationValue != null
+        && annotationValue.startsWith("${")
+        && !(staticValueField.writer() instanceof UnwritableFieldWriter);
+  }
+
+  /**
+   * Returns whether the {@code value} is of a type known to be immutable, meaning that it may be
+   * shared by several fields.
+   */
+  private static boolean isImmutable(final Object value) {
+    if (value == null || value == UNRESOLVED) {
+      return true;
+    }
+    final Class<?> type = value.getClass();
+    return ClassUtils.isPrimitiveWrapper(type)
+        || value instanceof String
+        || value instanceof Enum<?>
+        || IMMUTABLE_TYPES.contains(type)
+        || "java.time".equals(type.getPackageName());
+  }
+
+  /**
+   * Resolves the {@link StaticValue#value()} of the {@code staticValueField}, and converts it to
+   * the target type.
+   *
+   * @param staticValueField to resolve.
+   * @return the converted value, or {@link #UNRESOLVED} if a property placeholder could not be
+   *     resolved.
+   */
+  private Object resolve(final StaticValueField staticValueField) {
+    final Field field = staticValueField.field();
+    String annotationValue = staticValueField.annotationValue();
+
+    final StaticValueResolveEvent resolveEvent = new StaticValueResolveEvent();
+    resolveEvent.begin();
+    if (staticValueField.bound()) {
+      final Object boundValue = bind(staticValueField);
+      resolveEvent.commit(staticValueField);
+      return boundValue;
+    }
+    final Object value;
+    final TypeDescriptor sourceType;
+    if (isSpelExpression(annotationValue)) {
+      annotationValue = annotationValue.substring(2, annotationValue.length() - 1);
+      value = expressionCache.get(annotationValue).getValue(evalContext);
+      sourceType = TypeDescriptor.forObject(value);
+    } else if (annotationValue.startsWith("${")) {
+      value = context.getEnvironment().resolvePlaceholders(annotationValue);
+      sourceType = STRING_TYPE;
+      if (annotationValue.equals(value)) {
+        resolveEvent.commit(staticValueField);
+        return UNRESOLVED;
+      }
+    } else {
+      throw StaticValueInjectorException.unsupportedAnnotationValue(field, annotationValue);
+    }
+    resolveEvent.commit(staticValueField);
+
+    final StaticValueConvertEvent convertEvent = new StaticValueConvertEvent();
+    convertEvent.begin();
+    final Object convertedValue;
+    try {
+      convertedValue =
+          getConversionService().convert(value, sourceType, staticValueField.targetType());
+    } catch (ConversionException e) {
+      statistics.conversionFailed();
+      throw StaticValueInjectorException.unparsableAnnotationValue(field, annotationValue, e);
+    }
+    convertEvent.commit(staticValueField);
+    return convertedValue;
+  }
+
+  /**
+   * The expression and target type of a field, identifying fields which resolve to equal values.
+   *
+   * @param expression the {@link StaticValue#value()} of the field, without surrounding whitespace.
+   * @param targetType the {@link StaticValueField#targetType()} of the field.
+   */
+  private record Resolution(String expression, TypeDescriptor targetType) {}
+
+  private static InjectedStaticValue injectedStaticValue(
+      final StaticValueField staticValueField, final Object value, final long start) {
+    return injectedStaticValue(staticValueField, value, true, start);
+  }
+
+  private static InjectedStaticValue unresolvedStaticValue(
+      final StaticValueField staticValueField, final long start) {
+    return injectedStaticValue(staticValueField, null, false, start);
+  }
+
+  private static InjectedStaticValue injectedStaticValue(
+      final StaticValueField staticValueField,
+      final Object value,
+      final boolean resolved,
+      final long start) {
+    return new InjectedStaticValue(
+        staticValueField.field().getDeclaringClass().getName(),
+        staticValueField.field().getName(),
+        staticValueField.annotationValue(),
+        value,
+        resolved,
+        System.nanoTime() - start);
+  }
+
+  /**
+   * Binds the property of the {@code staticValueField}, which is bound by {@link
+   * StaticConfigurationProperties}, converting it to the target type.
+   *
+   * @param staticValueField to bind.
+   * @return the bound value, or {@link #UNRESOLVED} if there is no such property.
+   */
+  private Object bind(final StaticValueField staticValueField) {
+    try {
+      return getBinder()
+          .bind(
+              staticValueField.annotationValue(),
+              Bindable.of(staticValueField.targetType().getResolvableType()))
+          .orElse(UNRESOLVED);
+    } catch (BindException e) {
+      statistics.conversionFailed();
+      throw StaticValueInjectorException.unbindableProperty(
+          staticValueField.field(), staticValueField.annotationValue(), e);
+    }
+  }
+
+  private Binder getBinder() {
+    if (binder == null) {
+      binder =
+          new Binder(
+              ConfigurationPropertySources.get(context.getEnvironment()),
+              new PropertySourcesPlaceholdersResolver(context.getEnvironment()),
+              getConversionService());
+    }
+    return binder;
+  }
+
+  private ConversionService getConversionService() {
+    if (conversionService == null) {
+      final ConfigurableListableBeanFactory beanFactory =
+          ((ConfigurableApplicationContext) context).getBeanFactory();
+      if (beanFactory.containsBean(ConfigurableApplicationContext.CONVERSION_SERVICE_BEAN_NAME)) {
+        conversionService =
+            beanFactory.getBean(
+                ConfigurableApplicationContext.CONVERSION_SERVICE_BEAN_NAME,
+                ConversionService.class);
+      } else if (beanFactory.getConversionService() != null) {
+        conversionService = beanFactory.getConversionService();
+      } else {
+        conversionService = ApplicationConversionService.getSharedInstance();
+      }
+    }
+    return conversionService;
+  }
+
+  private static boolean isSpelExpression(final String annotationValue) {
+    return annotationValue.startsWith("#{") && annotationValue.endsWith("}");
+  }
+
+  private Set<String> getPropertyKeys(final StaticValueField staticValueField) {
+    final String annotationValue = staticValueField.annotationValue();
+    if (annotationValue == null) {
+      return Set.of();
+    }
+    if (staticValueField.bound()) {
+      return Set.of(annotationValue);
+    }
+    if (isSpelExpression(annotationValue)) {
+      return StaticValuePropertyKeys.ofExpression(
+          expressionCache.get(annotationValue.substring(2, annotationValue.length() - 1)));
+    }
+    return StaticValuePropertyKeys.ofPlaceholders(annotationValue);
+  }
+
+  private List<StaticValueField> getAnnotatedFields() {
+    if (annotatedFields == null) {
+      annotatedFields = scanAnnotatedFields(scope);
+    }
+    return annotatedFields;
+  }
+
+  private List<StaticValueField> scanAnnotatedFields(final StaticValueScanScope scanScope) {
+    final StaticValueScanEvent scanEvent = new StaticValueScanEvent();
+    scanEvent.begin();
+    final long start = System.nanoTime();
+    final List<StaticValueField> scannedFields = getAllAnnotatedFields(scanScope);
+    final long elapsed = System.nanoTime() - start;
+    scanEvent.end();
+    if (scanEvent.shouldCommit()) {
+      scanEvent.basePackages = String.join(",", scanScope.basePackages());
+      scanEvent.fields = scannedFields.size();
+      scanEvent.commit();
+    }
+    statistics.scanned(elapsed);
+    LOGGER.info(
+        "Scanned {} for fields annotated with {} in {} ms.",
+        scanScope.basePackages(),
+        STATIC_VALUE_CLASS.getSimpleName(),
+        TimeUnit.NANOSECONDS.toMillis(elapsed));
+    return scannedFields;
+  }
+
+  private List<StaticValueField> getAllAnnotatedFields(final StaticValueScanScope scanScope) {
+    return findAllAnnotatedFields(scanScope).stream()
+        .distinct()
+        .sorted(FIELD_ORDER)
+        .map(this::toStaticValueField)
+        .toList();
+  }
+
+  private StaticValueField toStaticValueField(final Field field) {
+    final boolean bound = StaticConfigurationPropertiesFields.isBound(field);
+    return new StaticValueField(
+        field,
+        bound
+            ? StaticConfigurationPropertiesFields.propertyName(field)
+            : Objects.requireNonNull(field.getAnnotation(STATIC_VALUE_CLASS)).value(),
+        targetTypeOf(field),
+        writerOf(field),
+        bound);
+  }
+
+  private static TypeDescriptor targetTypeOf(final Field field) {
+    if (field.getType() != StaticProperty.class) {
+      return new TypeDescriptor(field);
+    }
+    final ResolvableType valueType = ResolvableType.forField(field).getGeneric(0);
+    if (valueType.resolve() == null) {
+      return TypeDescriptor.valueOf(Object.class);
+    }
+    return new TypeDescriptor(valueType, null, field.getAnnotations());
+  }
+
+  private StaticFieldWriter writerOf(final Field field) {
+    if (aotFields != null && memorySemantics == StaticFieldMemorySemantics.PLAIN) {
+      final Consumer<Object> setter = aotFields.setter(field);
+      if (setter != null) {
+        return setter::accept;
+      }
+    }
+    try {
+      return StaticFieldWriter.of(field, memorySemantics);
+    } catch (final StaticValueInjectorException e) {
+      return new UnwritableFieldWriter(e);
+    }
+  }
+
+  /**
+   * The writer of a field which is not a writable {@code static} field. The failure is reported as
+   * the outcome of the field when failures are aggregated, and thrown when the field is written,
+   * rather than when the annotated fields are looked up.
+   *
+   * @param failure of resolving the writer of the field.
+   */
+  private record UnwritableFieldWriter(StaticValueInjectorException failure)
+      implements StaticFieldWriter {
+
+    @Override
+    public void write(final Object value) {
+      throw failure;
+    }
+  }
+
+  private List<StaticValueBatchResolver> getBatchResolvers() {
+    if (batchResolvers == null) {
+      batchResolvers =
+          context.getBeanProvider(StaticValueBatchResolver.class).orderedStream().toList();
+    }
+    return batchResolvers;
+  }
+
+  private void lookUpAotFields() {
+    if (aotFields == null && context.containsBean(StaticValueAotFields.BEAN_NAME)) {
+      aotFields = context.getBean(StaticValueAotFields.BEAN_NAME, StaticValueAotFields.class);
+    }
+  }
+
+  private List<Field> findAllAnnotatedFields(final StaticValueScanScope scanScope) {
+    lookUpAotFields();
+    if (aotFields != null) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Loaded fields from {}.", StaticValueAotFields.class.getSimpleName());
+      }
+      return aotFields.fields(context.getClassLoader(), scanScope);
+    }
+    final StaticValueFieldScanner scanner =
+        new StaticValueFieldScanner(context, scanScope, scanParallelism);
+    if (indexEnabled) {
+      final StaticValueIndex.Indexed indexed =
+          StaticValueIndex.load(context.getClassLoader(), scanScope::includes);
+      if (!indexed.roots().isEmpty()) {
+        final List<Field> fields = new ArrayList<>(indexed.fields());
+        fields.addAll(scanner.scan(indexed.roots()));
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "Loaded {} fields from {} in {}, and scanned all other classpath roots.",
+              indexed.fields().size(),
+              StaticValueIndex.INDEX_LOCATION,
+              indexed.roots());
+        }
+        return fields;
+      }
+    }
+    if (!cacheDirectory.isBlank()) {
+      return new StaticValueScanCache(Path.of(cacheDirectory), context.getClassLoader(), scanScope)
+          .getOrScan(scanner::scan);
+    }
+    return scanner.scan();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Auto-configuration of {@link StaticValueInjector}, and its optional components. Registered
+ * through {@code META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports},
+ * so that applications do not need to scan the package of {@link StaticValueInjector}.
+ *
+ * <p>This auto-configuration only applies when {@code sbspi.basePackage} is set, in any form
+ * accepted by relaxed binding, e.g. {@code sbspi.base-package} or {@code sbspi.basePackage[0]}.
+ * Applications without it skip the injector entirely. It backs off if a {@link StaticValueInjector}
+ * has already been registered, e.g. by {@code scanBasePackageClasses = StaticValueInjector.class}.
+ *
+ * <p>The conditions of each imported component, such as {@link StaticValueInjectorMetrics} only
+ * being registered when Micrometer is on the classpath, still apply.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@AutoConfiguration
+@Conditional(OnStaticValueBasePackageCondition.class)
+@ConditionalOnMissingBean(StaticValueInjector.class)
+@Import({
+  StaticValueInjector.class,
+  StaticValueInjectionBarrier.class,
+  StaticValueEnvironmentChangeListener.class,
+  StaticValueFileWatcher.class,
+  StaticValueInjectorMetrics.class,
+  StaticValuesEndpoint.class
+})
+public class StaticValueInjectorAutoConfiguration {
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueInjectorAutoConfiguration() {}
+}
@@ -0,0 +1,89 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the metrics of {@link StaticValueInjector} to Micrometer {@link MeterRegistry}s. This
+ * component is only registered when Micrometer is on the classpath.
+ *
+ * <ul>
+ *   <li>{@code sbspi.scan} - timer of finding all fields annotated with {@link StaticValue}.
+ *   <li>{@code sbspi.fields.injected} - counter of injected fields.
+ *   <li>{@code sbspi.fields.unresolved} - counter of fields whose value could not be resolved.
+ *   <li>{@code sbspi.conversion.failures} - counter of values which could not be converted.
+ *   <li>{@code sbspi.evaluations.saved} - counter of expressions which were not resolved, because
+ *       an identical expression had already been resolved in the same injection pass.
+ * </ul>
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Component
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+public class StaticValueInjectorMetrics implements MeterBinder {
+
+  private final StaticValueInjectorStatistics statistics;
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @param staticValueInjector whose metrics to bind.
+   * @since 0.2.0
+   */
+  public StaticValueInjectorMetrics(final StaticValueInjector staticValueInjector) {
+    this.statistics = staticValueInjector.getStatistics();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    FunctionTimer.builder(
+            "sbspi.scan",
+            statistics,
+            StaticValueInjectorStatistics::scans,
+            StaticValueInjectorStatistics::scanNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time taken to find all fields annotated with @StaticValue")
+        .register(registry);
+    FunctionCounter.builder(
+            "sbspi.fields.injected", statistics, StaticValueInjectorStatistics::fieldsInjected)
+        .description("Number of fields annotated with @StaticValue which have been injected")
+        .register(registry);
+    FunctionCounter.builder(
+            "sbspi.fields.unresolved", statistics, StaticValueInjectorStatistics::fieldsUnresolved)
+        .description("Number of fields annotated with @StaticValue which could not be resolved")
+        .register(registry);
+    FunctionCounter.builder(
+            "sbspi.conversion.failures",
+            statistics,
+            StaticValueInjectorStatistics::conversionFailures)
+        .description("Number of resolved values which could not be converted")
+        .register(registry);
+    FunctionCounter.builder(
+            "sbspi.evaluations.saved", statistics, StaticValueInjectorStatistics::evaluationsSaved)
+        .description("Number of expressions resolved once, and shared by multiple fields")
+        .register(registry);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a {@link StaticValueInjector}, which are exposed as metrics when Micrometer is on
+ * the classpath.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueInjectorStatistics {
+
+  private final LongAdder scans = new LongAdder();
+  private final LongAdder scanNanos = new LongAdder();
+  private final LongAdder fieldsInjected = new LongAdder();
+  private final LongAdder fieldsUnresolved = new LongAdder();
+  private final LongAdder conversionFailures = new LongAdder();
+  private final LongAdder evaluationsSaved = new LongAdder();
+
+  void scanned(final long nanos) {
+    scans.increment();
+    scanNanos.add(nanos);
+  }
+
+  void fieldInjected() {
+    fieldsInjected.increment();
+  }
+
+  void fieldUnresolved() {
+    fieldsUnresolved.increment();
+  }
+
+  void conversionFailed() {
+    conversionFailures.increment();
+  }
+
+  void evaluationSaved() {
+    evaluationsSaved.increment();
+  }
+
+  long scans() {
+    return scans.sum();
+  }
+
+  double scanNanos() {
+    return scanNanos.sum();
+  }
+
+  double fieldsInjected() {
+    return fieldsInjected.sum();
+  }
+
+  double fieldsUnresolved() {
+    return fieldsUnresolved.sum();
+  }
+
+  double conversionFailures() {
+    return conversionFailures.sum();
+  }
+
+  long evaluationsSaved() {
+    return evaluationsSaved.sum();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reverse index from property keys to the {@link StaticValueField}s depending on them. Fields whose
+ * property keys are unknown are considered to depend on <em>every</em> property key. A field
+ * depending on a property key also depends on its descendants, e.g. a field bound to {@code
+ * app.hosts} depends on {@code app.hosts[0]}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValuePropertyKeyIndex {
+
+  private final List<StaticValueField> fields;
+  private final Map<String, BitSet> fieldsByPropertyKey = new HashMap<>();
+  private final BitSet fieldsWithUnknownPropertyKeys = new BitSet();
+
+  /**
+   * Creates a new index of the {@code fields}.
+   *
+   * @param fields to index.
+   * @param propertyKeys returns the property keys of a field, or {@code null} if they are unknown.
+   */
+  StaticValuePropertyKeyIndex(
+      final List<StaticValueField> fields,
+      final Function<StaticValueField, Set<String>> propertyKeys) {
+    this.fields = fields;
+    for (int i = 0; i < fields.size(); i++) {
+      final Set<String> keys = propertyKeys.apply(fields.get(i));
+      if (keys == null) {
+        fieldsWithUnknownPropertyKeys.set(i);
+        continue;
+      }
+      for (final String key : keys) {
+        fieldsByPropertyKey.computeIfAbsent(key, k -> new BitSet()).set(i);
+      }
+    }
+  }
+
+  /**
+   * Returns the fields depending on any of the {@code propertyKeys}, in the same order as they were
+   * indexed.
+   *
+   * @param propertyKeys which have changed.
+   * @return the affected fields.
+   */
+  List<StaticValueField> affectedBy(final Collection<String> propertyKeys) {
+    final BitSet affected = (BitSet) fieldsWithUnknownPropertyKeys.clone();
+    for (final String key : propertyKeys) {
+      for (int i = 0; i < key.length(); i++) {
+        final char c = key.charAt(i);
+        if (c == '.' || c == '[') {
+          or(affected, key.substring(0, i));
+        }
+      }
+      or(affected, key);
+    }
+    return affected.stream().mapToObj(fields::get).toList();
+  }
+
+  private void or(final BitSet affected, final String key) {
+    final BitSet dependents = fieldsByPropertyKey.get(key);
+    if (dependents != null) {
+      affected.or(dependents);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.StringLiteral;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+/**
+ * Extracts the property keys referenced by a {@link StaticValue#value()}.
+ *
+ * <p>For property placeholders, every (nested) placeholder key is extracted, e.g. {@code ${a:${b}}}
+ * references {@code a} and {@code b}. For SpEL expressions, the keys of {@code getProperty}, {@code
+ * getRequiredProperty} and {@code containsProperty} invocations with literal arguments are
+ * extracted. If a SpEL expression looks up a property by a non-literal argument, its keys are
+ * <em>unknown</em>.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValuePropertyKeys {
+
+  private static final String PLACEHOLDER_PREFIX = "${";
+  private static final String PLACEHOLDER_SUFFIX = "}";
+  private static final char VALUE_SEPARATOR = ':';
+
+  private StaticValuePropertyKeys() {}
+
+  /**
+   * Extracts the property keys referenced by property placeholders in the {@code value}.
+   *
+   * @param value containing property placeholders.
+   * @return the referenced property keys.
+   */
+  static Set<String> ofPlaceholders(final String value) {
+    final Set<String> keys = new LinkedHashSet<>();
+    collectPlaceholderKeys(value, keys);
+    return keys;
+  }
+
+  /**
+   * Extracts the property keys looked up by the SpEL {@code expression}.
+   *
+   * @param expression the parsed SpEL expression.
+   * @return the referenced property keys, or {@code null} if they are unknown.
+   */
+  static Set<String> ofExpression(final Expression expression) {
+    if (!(expression instanceof SpelExpression spelExpression)) {
+      return null;
+    }
+    final Set<String> keys = new LinkedHashSet<>();
+    return collectExpressionKeys(spelExpression.getAST(), keys) ? keys : null;
+  }
+
+  private static void collectPlaceholderKeys(final String value, final Set<String> keys) {
+    int start = value.indexOf(PLACEHOLDER_PREFIX);
+    while (start != -1) {
+      final int end = findPlaceholderEnd(value, start + PLACEHOLDER_PREFIX.length());
+      if (end == -1) {
+        return;
+      }
+      final String placeholder = value.substring(start + PLACEHOLDER_PREFIX.length(), end);
+      final int separator = findValueSeparator(placeholder);
+      if (separator == -1) {
+        addKey(placeholder, keys);
+      } else {
+        addKey(placeholder.substring(0, separator), keys);
+        collectPlaceholderKeys(placeholder.substring(separator + 1), keys);
+      }
+      start = value.indexOf(PLACEHOLDER_PREFIX, end + PLACEHOLDER_SUFFIX.length());
+    }
+  }
+
+  private static void addKey(final String key, final Set<String> keys) {
+    if (key.contains(PLACEHOLDER_PREFIX)) {
+      collectPlaceholderKeys(key, keys);
+    } else {
+      keys.add(key);
+    }
+  }
+
+  private static int findPlaceholderEnd(final String value, final int from) {
+    int depth = 0;
+    for (int i = from; i < value.length(); i++) {
+      if (value.startsWith(PLACEHOLDER_PREFIX, i)) {
+        depth++;
+        i += PLACEHOLDER_PREFIX.length() - 1;
+      } else if (value.startsWith(PLACEHOLDER_SUFFIX, i)) {
+        if (depth == 0) {
+          return i;
+        }
+        depth--;
+      }
+    }
+    return -1;
+  }
+
+  private static int findValueSeparator(final String placeholder) {
+    int depth = 0;
+    for (int i = 0; i < placeholder.length(); i++) {
+      if (placeholder.startsWith(PLACEHOLDER_PREFIX, i)) {
+        depth++;
+        i += PLACEHOLDER_PREFIX.length() - 1;
+      } else if (placeholder.startsWith(PLACEHOLDER_SUFFIX, i)) {
+        depth--;
+      } else if (placeholder.charAt(i) == VALUE_SEPARATOR && depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean collectExpressionKeys(final SpelNode node, final Set<String> keys) {
+    if (node instanceof MethodReference methodReference
+        && isPropertyLookup(methodReference.getName())) {
+      if (node.getChildCount() == 0 || !(node.getChild(0) instanceof StringLiteral literal)) {
+        return false;
+      }
+      keys.add(String.valueOf(literal.getLiteralValue().getValue()));
+    }
+    for (int i = 0; i < node.getChildCount(); i++) {
+      if (!collectExpressionKeys(node.getChild(i), keys)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isPropertyLookup(final String methodName) {
+    return switch (methodName) {
+      case "getProperty", "getRequiredProperty", "containsProperty" -> true;
+      default -> false;
+    };
+  }
+}
@@ -0,0 +1,370 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+package io.github.chrimle.sbspi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the fields found by {@link StaticValueFieldScanner}, stored in a configurable
+ * directory ({@code sbspi.cache.directory}). There is one cache file per {@link
+ * StaticValueScanScope}, holding the fields of each classpath root containing any of its base
+ * packages, along with a fingerprint of the root. Roots whose fingerprint is unchanged are not
+ * scanned again, and the cache file is rewritten in place when any fingerprint changes.
+ *
+ * <p>The fingerprint of a jar is its path, size and modification time. Nested jars and directories
+ * of a Spring Boot executable jar ({@code jar:nested:}) are fingerprinted by the outer archive and
+ * the name of their entry, as they cannot change without the outer archive changing. The
+ * fingerprint of a classpath directory is a digest of the path, size and modification time of each
+ * class file in it, which only requires reading the file attributes, not the class files
+ * themselves. Roots which are neither, are never cached, and are always scanned.
+ *
+ * <p>Cache files are written to a temporary file and atomically moved into place, meaning that
+ * concurrently starting applications sharing the directory never read a partially written file.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueScanCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StaticValueScanCache.class);
+
+  private static final int MAGIC = 0x53425350;
+  private static final int VERSION = 2;
+  private static final String JAR_SEPARATOR = "!/";
+  private static final String NESTED_SEPARATOR = "/!";
+
+  private final Path directory;
+  private final ClassLoader classLoader;
+  private final StaticValueScanScope scope;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param directory to store cache files in.
+   * @param classLoader to fingerprint the classpath of, and to load cached classes with.
+   * @param scope of classes which are scanned.
+   */
+  StaticValueScanCache(
+      final Path directory, final ClassLoader classLoader, final StaticValueScanScope scope) {
+    this.directory = directory;
+    this.classLoader = classLoader;
+    this.scope = scope;
+  }
+
+  /**
+   * Returns the cached fields of every classpath root whose fingerprint matches, and scans all
+   * other classpath roots, caching their fields if they can be fingerprinted.
+   *
+   * @param scanner scanning the fields of all classpath roots except the given ones.
+   * @return the fields annotated with {@link StaticValue}.
+   */
+  List<Field> getOrScan(final Function<Set<String>, List<Field>> scanner) {
+    final Path file = directory.resolve("static-values-" + scopeFingerprint() + ".cache");
+    final Map<String, String> fingerprints = new LinkedHashMap<>();
+    for (final String basePackage : scope.basePackages()) {
+      StaticValueIndex.unindexedRoots(classLoader, basePackage, Set.of())
+          .forEach(root -> fingerprints.computeIfAbsent(root, StaticValueScanCache::fingerprint));
+    }
+    final Map<String, Root> cachedRoots = read(file);
+    final Map<String, Root> roots = new LinkedHashMap<>();
+    final List<Field> fields = new ArrayList<>();
+    for (final Root cachedRoot : cachedRoots == null ? List.<Root>of() : cachedRoots.values()) {
+      if (cachedRoot.fingerprint().equals(fingerprints.get(cachedRoot.root()))) {
+        final List<Field> cachedFields = load(cachedRoot);
+        if (cachedFields != null) {
+          roots.put(cachedRoot.root(), cachedRoot);
+          fields.addAll(cachedFields);
+        }
+      }
+    }
+    final List<Field> scannedFields = scanner.apply(Set.copyOf(roots.keySet()));
+    fields.addAll(scannedFields);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Loaded {} fields of {} from {}, and scanned all other classpath roots.",
+          fields.size() - scannedFields.size(),
+          roots.keySet(),
+          file);
+    }
+
+    final Map<String, List<String>> scannedNames = new LinkedHashMap<>();
+    for (final Field field : scannedFields) {
+      final String root = rootOf(field.getDeclaringClass());
+      if (root != null && fingerprints.get(root) != null) {
+        scannedNames.computeIfAbsent(root, key -> new ArrayList<>()).add(nameOf(field));
+      }
+    }
+    fingerprints.forEach(
+        (root, fingerprint) -> {
+          if (fingerprint != null && !roots.containsKey(root)) {
+            final List<String> names = scannedNames.getOrDefault(root, List.of());
+            roots.put(root, new Root(root, fingerprint, names));
+          }
+        });
+    if (cachedRoots == null || !roots.equals(cachedRoots)) {
+      write(file, roots.values());
+    }
+    return fields;
+  }
+
+  private String scopeFingerprint() {
+    final MessageDigest digest = newDigest();
+    update(digest, scope.basePackages().toString());
+    update(digest, scope.includePatterns().stream().map(Pattern::pattern).toList().toString());
+    update(digest, scope.excludePatterns().stream().map(Pattern::pattern).toList().toString());
+    return HexFormat.of().formatHex(digest.digest(), 0, 16);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void update(final MessageDigest digest, final String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  /**
+   * Returns the fingerprint of the classpath {@code root}.
+   *
+   * @param root the URL of a classpath root.
+   * @return the fingerprint, or {@code null} if the root is neither a jar, a nested jar or
+   *     directory, nor a directory on the default file system.
+   */
+  private static String fingerprint(final String root) {
+    try {
+      final URI uri = URI.create(root);
+      if ("jar".equals(uri.getScheme()) && root.endsWith(JAR_SEPARATOR)) {
+        return fingerprintArchive(
+            URI.create(root.substring("jar:".length(), root.length() - JAR_SEPARATOR.length())));
+      }
+      if ("file".equals(uri.getScheme())) {
+        final Path path = Path.of(uri);
+        if (Files.isDirectory(path)) {
+          return fingerprintDirectory(path);
+        }
+      }
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Not caching {}, as it is neither a jar nor a directory.", root);
+      }
+      return null;
+    } catch (IOException | RuntimeException e) {
+      // E.g. UncheckedIOException while walking a directory, or FileSystemNotFoundException.
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Not caching {}, as it could not be fingerprinted: {}", root, e.toString());
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Returns the fingerprint of the {@code archive}; a jar on the default file system, or an entry
+   * of such a jar, as by {@code nested:/path/to/app.jar/!BOOT-INF/lib/library.jar}.
+   *
+   * @param archive the URI of the archive.
+   * @return the fingerprint, or {@code null} if the archive is not on the default file system.
+   */
+  private static String fingerprintArchive(final URI archive) throws IOException {
+    if ("file".equals(archive.getScheme())) {
+      return describe(Path.of(archive));
+    }
+    if (!"nested".equals(archive.getScheme())) {
+      return null;
+    }
+    final String location = archive.getRawSchemeSpecificPart();
+    final int separator = location.lastIndexOf(NESTED_SEPARATOR);
+    if (separator < 0) {
+      return null;
+    }
+    final Path outerArchive = Path.of(URI.create("file:" + location.substring(0, separator)));
+    return describe(outerArchive) + location.substring(separator + 1);
+  }
+
+  /**
+   * Returns the fingerprint of the {@code directory}; a digest of the path, size and modification
+   * time of each class file in it.
+   *
+   * @param directory the classpath directory.
+   * @return the fingerprint.
+   */
+  private static String fingerprintDirectory(final Path directory) throws IOException {
+    final MessageDigest digest = newDigest();
+    final List<Path> classFiles;
+    try (final Stream<Path> files = Files.walk(directory)) {
+      classFiles =
+          files.filter(file -> file.getFileName().toString().endsWith(".class")).sorted().toList();
+    }
+    for (final Path classFile : classFiles) {
+      update(digest, directory.relativize(classFile) + ":" + describe(classFile));
+    }
+    return directory + ":" + classFiles.size() + ":" + HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static String describe(final Path file) throws IOException {
+    final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    return file + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+  }
+
+  private String rootOf(final Class<?> clazz) {
+    final String name = clazz.getName().replace('.', '/') + ".class";
+    final URL url = classLoader.getResource(name);
+    if (url == null || !url.toExternalForm().endsWith(name)) {
+      return null;
+    }
+    final String externalForm = url.toExternalForm();
+    return externalForm.substring(0, externalForm.length() - name.length());
+  }
+
+  private static String nameOf(final Field field) {
+    return field.getDeclaringClass().getName() + '#' + field.getName();
+  }
+
+  private List<Field> load(final Root root) {
+    final List<Field> fields = new ArrayList<>(root.fields().size());
+    for (final String name : root.fields()) {
+      final int separator = name.lastIndexOf('#');
+      try {
+        fields.add(
+            Class.forName(name.substring(0, separator), false, classLoader)
+                .getDeclaredField(name.substring(separator + 1)));
+      } catch (ClassNotFoundException | NoSuchFieldException e) {
+        LOGGER.warn("Ignoring outdated cached fields of {}: {}", root.root(), e.toString());
+        return null;
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * Reads the cached roots from the {@code file}.
+   *
+   * @param file to read.
+   * @return the cached roots, or {@code null} if the file does not exist, is unreadable or is
+   *     corrupt.
+   */
+  private Map<String, Root> read(final Path file) {
+    try (final DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return null;
+      }
+      final int size = readCount(in);
+      final Map<String, Root> roots = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        final String root = in.readUTF();
+        final String fingerprint = in.readUTF();
+        final int fieldCount = readCount(in);
+        // Not sized by the count, as a corrupt count may still be far larger than the file
+        final List<String> fields = new ArrayList<>();
+        for (int j = 0; j < fieldCount; j++) {
+          fields.add(in.readUTF());
+        }
+        roots.put(root, new Root(root, fingerprint, fields));
+      }
+      return roots;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Ignoring unreadable cache file {}: {}", file, e.toString());
+      return null;
+    }
+  }
+
+  private static int readCount(final DataInputStream in) throws IOException {
+    final int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Corrupt count " + count);
+    }
+    return count;
+  }
+
+  private void write(final Path file, final Collection<Root> roots) {
+    try {
+      Files.createDirectories(directory);
+      final Path temporaryFile = Files.createTempFile(directory, "static-values-", ".tmp");
+      try {
+        try (final DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+          out.writeInt(MAGIC);
+          out.writeInt(VERSION);
+          out.writeInt(roots.size());
+          for (final Root root : roots) {
+            out.writeUTF(root.root());
+            out.writeUTF(root.fingerprint());
+            out.writeInt(root.fields().size());
+            for (final String field : root.fields()) {
+              out.writeUTF(field);
+            }
+          }
+        }
+        try {
+          Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temporaryFile);
+      }
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Cached fields in {}.", file);
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not write cache file {}: {}", file, e.toString());
+    }
+  }
+
+  /**
+   * The cached fields of a classpath root.
+   *
+   * @param root the URL of the classpath root.
+   * @param fingerprint of the classpath root, when the fields were cached.
+   * @param fields the names of the fields, as {@code className#fieldName}.
+   */
+  private record Root(String root, String fingerprint, List<String> fields) {}
+}
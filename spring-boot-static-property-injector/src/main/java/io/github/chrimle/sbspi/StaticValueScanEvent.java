@@ -0,0 +1,44 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded while finding all fields annotated with {@link StaticValue}, either from the
+ * index or by scanning the classpath.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Name("io.github.chrimle.sbspi.Scan")
+@Label("Static Value Scan")
+@Description("Finding all @StaticValue fields")
+@Category("Static Property Injector")
+final class StaticValueScanEvent extends Event {
+
+  @Label("Base Packages")
+  String basePackages;
+
+  @Label("Fields")
+  int fields;
+}
@@ -0,0 +1,117 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * The scope of classes in which fields annotated with {@link StaticValue} are processed.
+ *
+ * @param basePackages the packages (including sub-packages) to process classes of.
+ * @param includePatterns the patterns of class names to include, or empty to include all classes.
+ * @param excludePatterns the patterns of class names to exclude.
+ * @author Chrimle
+ * @since 0.2.0
+ */
+record StaticValueScanScope(
+    List<String> basePackages, List<Pattern> includePatterns, List<Pattern> excludePatterns) {
+
+  StaticValueScanScope {
+    basePackages = List.copyOf(basePackages);
+    includePatterns = List.copyOf(includePatterns);
+    excludePatterns = List.copyOf(excludePatterns);
+  }
+
+  /**
+   * Binds the scope from the {@code environment}; {@code sbspi.basePackage}, {@code
+   * sbspi.includePatterns} and {@code sbspi.excludePatterns}.
+   *
+   * @param environment to bind the scope from.
+   * @return the scope.
+   * @throws IllegalStateException if {@code sbspi.basePackage} is not set.
+   */
+  static StaticValueScanScope bind(final Environment environment) {
+    final Binder binder = Binder.get(environment);
+    return new StaticValueScanScope(
+        binder
+            .bind("sbspi.base-package", Bindable.listOf(String.class))
+            .orElseThrow(
+                () -> new IllegalStateException("Property 'sbspi.basePackage' is required")),
+        bindPatterns(binder, "sbspi.include-patterns"),
+        bindPatterns(binder, "sbspi.exclude-patterns"));
+  }
+
+  private static List<Pattern> bindPatterns(final Binder binder, final String name) {
+    return binder.bind(name, Bindable.listOf(String.class)).orElseGet(List::of).stream()
+        .map(Pattern::compile)
+        .toList();
+  }
+
+  /**
+   * Returns whether the class with the {@code className} is within <i>this</i> scope.
+   *
+   * @param className the fully qualified name of the class.
+   * @return {@code true} if the class is within <i>this</i> scope, otherwise {@code false}.
+   */
+  boolean includes(final String className) {
+    return isInBasePackages(className) && isIncluded(className) && !isExcluded(className);
+  }
+
+  /**
+   * Returns whether the class with the {@code className} matches the include and exclude patterns
+   * of <i>this</i> scope, regardless of its package.
+   *
+   * @param className the fully qualified name of the class.
+   * @return {@code true} if the class is matched by the patterns, otherwise {@code false}.
+   */
+  boolean matchesPatterns(final String className) {
+    return isIncluded(className) && !isExcluded(className);
+  }
+
+  /**
+   * Returns the scope of the base packages of <i>this</i> scope which are not entirely instrumented
+   * by the <em>static value agent</em>, and must therefore be scanned.
+   *
+   * @return the scope, with the same patterns, whose base packages may be empty.
+   */
+  StaticValueScanScope uninstrumented() {
+    return new StaticValueScanScope(
+        basePackages.stream()
+            .filter(basePackage -> !StaticValueClassInitializations.isInstrumented(basePackage))
+            .toList(),
+        includePatterns,
+        excludePatterns);
+  }
+
+  private boolean isInBasePackages(final String className) {
+    return basePackages.stream().anyMatch(basePackage -> className.startsWith(basePackage + "."));
+  }
+
+  private boolean isIncluded(final String className) {
+    return includePatterns.isEmpty()
+        || includePatterns.stream().anyMatch(pattern -> pattern.matcher(className).matches());
+  }
+
+  private boolean isExcluded(final String className) {
+    return excludePatterns.stream().anyMatch(pattern -> pattern.matcher(className).matches());
+  }
+}
@@ -0,0 +1,91 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.util.List;
+
+/**
+ * The values of all fields annotated with {@link StaticValue}, or bound by {@link
+ * StaticConfigurationProperties}, at the time the snapshot was taken by {@link
+ * StaticValueInjector#snapshot()}. Invoking {@link #restore()} writes the values back to the
+ * fields, undoing any changes made since.
+ *
+ * <p>Snapshots are primarily intended for tests which temporarily override fields, and want to
+ * restore them without restarting the application context. Fields of type {@link StaticProperty}
+ * are restored to the holder they referenced, but the value of the holder itself is not restored.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticValueSnapshot {
+
+  private final List<StaticValueField> fields;
+  private final Object[] values;
+
+  /**
+   * Takes a snapshot, by reading the current values of the {@code fields}.
+   *
+   * @param fields to read.
+   */
+  StaticValueSnapshot(final List<StaticValueField> fields) {
+    this.fields = fields;
+    this.values = new Object[fields.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = read(fields.get(i).field());
+    }
+  }
+
+  /**
+   * Writes the values of <i>this</i> snapshot back to the fields, in a single pass.
+   *
+   * @since 0.2.0
+   */
+  public void restore() {
+    for (int i = 0; i < values.length; i++) {
+      fields.get(i).writer().write(values[i]);
+    }
+  }
+
+  /**
+   * Returns the number of fields in <i>this</i> snapshot.
+   *
+   * @since 0.2.0
+   * @return the number of fields.
+   */
+  public int size() {
+    return values.length;
+  }
+
+  private static Object read(final Field field) {
+    try {
+      return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+          .unreflectVarHandle(field)
+          .getVolatile();
+    } catch (IllegalAccessException e) {
+      try {
+        field.setAccessible(true);
+        return field.get(null);
+      } catch (IllegalAccessException | InaccessibleObjectException | SecurityException ex) {
+        throw StaticValueInjectorException.unwritableField(field, ex);
+      }
+    }
+  }
+}
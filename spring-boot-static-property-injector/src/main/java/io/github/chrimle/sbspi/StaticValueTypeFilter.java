@@ -0,0 +1,131 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+/**
+ * {@link TypeFilter} matching classes which declare at least one field annotated with {@link
+ * StaticValue}, or which are annotated with {@link StaticConfigurationProperties}. The class file
+ * is inspected at bytecode-level, meaning that classes are neither loaded nor initialized in order
+ * to be matched.
+ *
+ * <p>Classes annotated with {@link StaticConfigurationProperties} are matched by the {@link
+ * org.springframework.core.type.AnnotationMetadata} of the {@link MetadataReader}. As it does not
+ * describe fields, the class file of any other class is read once more to find annotated fields.
+ * The scan of {@link StaticValueInjector} avoids this, by reading each class file only once.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public class StaticValueTypeFilter implements TypeFilter {
+
+  private static final String STATIC_VALUE_DESCRIPTOR =
+      "L" + StaticValue.class.getName().replace('.', '/') + ";";
+
+  private static final String STATIC_CONFIGURATION_PROPERTIES_DESCRIPTOR =
+      "L" + StaticConfigurationProperties.class.getName().replace('.', '/') + ";";
+
+  /**
+   * Creates a new {@link TypeFilter} matching classes which declare fields annotated with {@link
+   * StaticValue}.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueTypeFilter() {}
+
+  @Override
+  public boolean match(
+      final MetadataReader metadataReader, final MetadataReaderFactory metadataReaderFactory)
+      throws IOException {
+    if (metadataReader
+        .getAnnotationMetadata()
+        .hasAnnotation(StaticConfigurationProperties.class.getName())) {
+      return true;
+    }
+    try (final InputStream inputStream = metadataReader.getResource().getInputStream()) {
+      return matches(new ClassReader(inputStream));
+    }
+  }
+
+  /**
+   * Returns whether the class read by the {@code classReader} declares at least one field annotated
+   * with {@link StaticValue}, or is annotated with {@link StaticConfigurationProperties}.
+   *
+   * @param classReader of the class file.
+   * @return {@code true} if the class is matched, otherwise {@code false}.
+   */
+  static boolean matches(final ClassReader classReader) {
+    final StaticValueFieldDetector detector = new StaticValueFieldDetector();
+    classReader.accept(
+        detector, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    return detector.found;
+  }
+
+  /**
+   * Visits the fields of a class, and detects whether any is annotated with {@link StaticValue}, or
+   * whether the class is annotated with {@link StaticConfigurationProperties}.
+   */
+  private static final class StaticValueFieldDetector extends ClassVisitor {
+
+    private boolean found;
+
+    private StaticValueFieldDetector() {
+      super(SpringAsmInfo.ASM_VERSION);
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+      if (STATIC_CONFIGURATION_PROPERTIES_DESCRIPTOR.equals(descriptor)) {
+        found = true;
+      }
+      return null;
+    }
+
+    @Override
+    public FieldVisitor visitField(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final Object value) {
+      if (found) {
+        return null;
+      }
+      return new FieldVisitor(SpringAsmInfo.ASM_VERSION) {
+        @Override
+        public AnnotationVisitor visitAnnotation(
+            final String annotationDescriptor, final boolean visible) {
+          if (STATIC_VALUE_DESCRIPTOR.equals(annotationDescriptor)) {
+            found = true;
+          }
+          return null;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+/**
+ * How {@link StaticValueInjector} reports fields which cannot be injected, set by {@code
+ * sbspi.validation.mode}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+enum StaticValueValidationMode {
+  /** Fields are resolved and assigned one at a time, throwing the first failure. */
+  FAIL_FAST,
+  /**
+   * All fields are resolved before any is assigned, in parallel where possible, throwing every
+   * failure at once. Fields of type {@link StaticProperty} are still resolved lazily.
+   */
+  AGGREGATE,
+  /**
+   * All fields, including those of type {@link StaticProperty}, are resolved as by {@link
+   * #AGGREGATE}, but none are assigned.
+   */
+  DRY_RUN
+}
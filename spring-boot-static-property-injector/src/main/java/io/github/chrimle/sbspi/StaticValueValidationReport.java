@@ -0,0 +1,74 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.List;
+
+/**
+ * The result of resolving and converting the annotated fields, without assigning them, by {@link
+ * StaticValueInjector#validate()}.
+ *
+ * @param fields the number of fields which were validated.
+ * @param unresolvedFields the fields whose property placeholders could not be resolved, and which
+ *     would therefore keep their current values.
+ * @param failures the failure of each field which could not be resolved or converted, in the order
+ *     of the fields.
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public record StaticValueValidationReport(
+    int fields,
+    List<InjectedStaticValue> unresolvedFields,
+    List<StaticValueInjectorException> failures) {
+
+  /**
+   * Creates a report, copying the {@code unresolvedFields} and {@code failures}.
+   *
+   * @param fields the number of fields which were validated.
+   * @param unresolvedFields the fields whose property placeholders could not be resolved.
+   * @param failures the failure of each field which could not be resolved or converted.
+   * @since 0.2.0
+   */
+  public StaticValueValidationReport {
+    unresolvedFields = List.copyOf(unresolvedFields);
+    failures = List.copyOf(failures);
+  }
+
+  /**
+   * Returns whether every field could be resolved and converted.
+   *
+   * @since 0.2.0
+   * @return {@code true} if there are no {@link #failures()}, otherwise {@code false}.
+   */
+  public boolean isValid() {
+    return failures.isEmpty();
+  }
+
+  /**
+   * Throws all {@link #failures()} at once, unless the report {@link #isValid()}.
+   *
+   * @since 0.2.0
+   * @throws StaticValueInjectorException with the {@link StaticValueInjectorException.Reason}
+   *     {@link StaticValueInjectorException.Reason#MULTIPLE_FAILURES}, if there are any failures.
+   */
+  public void throwIfInvalid() {
+    if (!isValid()) {
+      throw StaticValueInjectorException.multipleFailures(failures);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.SanitizableData;
+import org.springframework.boot.actuate.endpoint.Sanitizer;
+import org.springframework.boot.actuate.endpoint.SanitizingFunction;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.Show;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Actuator endpoint ({@code /actuator/staticvalues}) listing every field injected by {@link
+ * StaticValueInjector}, with its expression, injected value and the time it took to inject.
+ *
+ * <p>Values are listed as strings; simple values (e.g. strings, numbers and durations), and arrays,
+ * collections and maps thereof, by their {@code String.valueOf}, and any other value only by its
+ * type. Like the {@code env} endpoint, values are sanitized by every {@link SanitizingFunction}
+ * bean, and are only shown unsanitized as configured by {@code
+ * management.endpoint.staticvalues.show-values} (default: {@code NEVER}) and {@code
+ * management.endpoint.staticvalues.roles}. Values of fields or properties which appear to be
+ * sensitive, such as passwords or tokens, are always sanitized.
+ *
+ * <p>Like the endpoints of Spring Boot Actuator, this endpoint is only registered when Spring Boot
+ * Actuator is on the classpath, and the endpoint is available; its access is not {@code NONE}
+ * ({@code management.endpoint.staticvalues.access}), and it is exposed, e.g. by {@code
+ * management.endpoints.web.exposure.include}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Component
+@ConditionalOnClass(
+    name = {
+      "org.springframework.boot.actuate.endpoint.annotation.Endpoint",
+      "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint"
+    })
+@ConditionalOnAvailableEndpoint(endpoint = StaticValuesEndpoint.class)
+@Endpoint(id = "staticvalues")
+public class StaticValuesEndpoint {
+
+  private static final Pattern SENSITIVE =
+      Pattern.compile(
+          ".*(password|secret|key|token|credentials|vcap_services|sun\\.java\\.command).*",
+          Pattern.CASE_INSENSITIVE);
+
+  private static final SanitizingFunction SENSITIVE_KEYS =
+      data -> SENSITIVE.matcher(data.getKey()).matches() ? data.withSanitizedValue() : data;
+
+  private final StaticValueInjector staticValueInjector;
+  private final Sanitizer sanitizer;
+
+  @Value("${management.endpoint.staticvalues.show-values:NEVER}")
+  private Show showValues;
+
+  @Value("${management.endpoint.staticvalues.roles:}")
+  private Set<String> roles;
+
+  /**
+   * Constructor to be invoked by Spring.
+   *
+   * @param staticValueInjector whose injected fields to list.
+   * @param sanitizingFunctions to sanitize the listed values with, in order.
+   * @since 0.2.0
+   */
+  public StaticValuesEndpoint(
+      final StaticValueInjector staticValueInjector,
+      final ObjectProvider<SanitizingFunction> sanitizingFunctions) {
+    this.staticValueInjector = staticValueInjector;
+    this.sanitizer =
+        new Sanitizer(
+            Stream.concat(sanitizingFunctions.orderedStream(), Stream.of(SENSITIVE_KEYS)).toList());
+  }
+
+  /**
+   * Lists every injected field, in the order of injection.
+   *
+   * @param securityContext of the request, determining whether values are shown unsanitized.
+   * @return the injected fields.
+   * @since 0.2.0
+   */
+  @ReadOperation
+  public List<StaticValueDescriptor> staticValues(final SecurityContext securityContext) {
+    final boolean showUnsanitized = showValues.isShown(securityContext, roles);
+    return staticValueInjector.getInjectedStaticValues().stream()
+        .map(injectedStaticValue -> describe(injectedStaticValue, showUnsanitized))
+        .toList();
+  }
+
+  private StaticValueDescriptor describe(
+      final InjectedStaticValue injectedStaticValue, final boolean showUnsanitized) {
+    final Object value = injectedStaticValue.value();
+    final SanitizableData data =
+        new SanitizableData(null, keyOf(injectedStaticValue), summarize(value));
+    return new StaticValueDescriptor(
+        injectedStaticValue.className(),
+        injectedStaticValue.fieldName(),
+        injectedStaticValue.expression(),
+        value == null ? null : value.getClass().getName(),
+        (String)
+            (value != null && SENSITIVE.matcher(injectedStaticValue.fieldName()).matches()
+                ? SanitizableData.SANITIZED_VALUE
+                : sanitizer.sanitize(data, showUnsanitized)),
+        injectedStaticValue.resolved(),
+        injectedStaticValue.durationNanos());
+  }
+
+  /**
+   * Returns the key to sanitize the value of the {@code injectedStaticValue} by; the property key
+   * if the expression is a property placeholder referencing a single property, or the fully
+   * qualified name of the field otherwise.
+   */
+  private static String keyOf(final InjectedStaticValue injectedStaticValue) {
+    if (injectedStaticValue.expression().strip().startsWith("${")) {
+      final Set<String> keys =
+          StaticValuePropertyKeys.ofPlaceholders(injectedStaticValue.expression());
+      if (keys.size() == 1) {
+        return keys.iterator().next();
+      }
+    }
+    return injectedStaticValue.className() + "." + injectedStaticValue.fieldName();
+  }
+
+  /**
+   * Returns {@code String.valueOf} the {@code value} if it is a simple value, or an array,
+   * collection or map of simple values, or a summary of its type otherwise; e.g. {@code
+   * ArrayList[size=3]} or {@code com.example.Client}. Values such as beans and clients are
+   * therefore never serialized.
+   */
+  private static String summarize(final Object value) {
+    if (value == null) {
+      return null;
+    }
+    final Class<?> type = value.getClass();
+    if (isSimple(type)) {
+      return String.valueOf(value);
+    }
+    if (type.isArray()) {
+      return isSimple(type.getComponentType())
+          ? ObjectUtils.nullSafeToString(value)
+          : type.getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+    }
+    if (value instanceof Collection<?> collection) {
+      return collection.stream().allMatch(StaticValuesEndpoint::isSimpleOrNull)
+          ? String.valueOf(value)
+          : type.getSimpleName() + "[size=" + collection.size() + "]";
+    }
+    if (value instanceof Map<?, ?> map) {
+      return map.keySet().stream().allMatch(StaticValuesEndpoint::isSimpleOrNull)
+              && map.values().stream().allMatch(StaticValuesEndpoint::isSimpleOrNull)
+          ? String.valueOf(value)
+          : type.getSimpleName() + "[size=" + map.size() + "]";
+    }
+    return type.getName();
+  }
+
+  private static boolean isSimpleOrNull(final Object value) {
+    return value == null || isSimple(value.getClass());
+  }
+
+  private static boolean isSimple(final Class<?> type) {
+    return BeanUtils.isSimpleValueType(type)
+        || TemporalAmount.class.isAssignableFrom(type)
+        || DataSize.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Describes an injected field, as listed by {@link StaticValuesEndpoint}.
+   *
+   * @param className the fully qualified name of the declaring class.
+   * @param fieldName the name of the field.
+   * @param expression the {@link StaticValue#value()} of the field.
+   * @param type the fully qualified name of the type of the injected value, or {@code null} if
+   *     {@code null} was injected.
+   * @param value the (sanitized) string representation of the injected value.
+   * @param resolved whether the expression could be resolved, and the value was injected.
+   * @param durationNanos the time it took to resolve, convert and inject the value, in nanoseconds.
+   * @since 0.2.0
+   */
+  public record StaticValueDescriptor(
+      String className,
+      String fieldName,
+      String expression,
+      String type,
+      String value,
+      boolean resolved,
+      long durationNanos) {}
+}
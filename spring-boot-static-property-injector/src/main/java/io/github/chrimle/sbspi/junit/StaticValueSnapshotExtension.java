@@ -0,0 +1,71 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.junit;
+
+import io.github.chrimle.sbspi.StaticValue;
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueSnapshot;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * JUnit 5 extension which takes a {@link StaticValueSnapshot} of all fields annotated with {@link
+ * StaticValue} before each test, and restores it after each test. Tests may therefore override
+ * {@code static} fields without affecting other tests, and without restarting the application
+ * context (e.g. by {@code @DirtiesContext}).
+ *
+ * <p>The snapshot is taken by the {@link StaticValueInjector} bean of the application context of
+ * the test, as loaded by the {@link SpringExtension}. Register it by annotating the test class with
+ * {@code @ExtendWith(StaticValueSnapshotExtension.class)}.
+ *
+ * <p>This extension requires JUnit Jupiter and Spring TestContext Framework, which are optional
+ * dependencies of this library.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public class StaticValueSnapshotExtension implements BeforeEachCallback, AfterEachCallback {
+
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(StaticValueSnapshotExtension.class);
+
+  /**
+   * Constructor to be invoked by JUnit.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueSnapshotExtension() {}
+
+  @Override
+  public void beforeEach(final ExtensionContext context) {
+    final StaticValueInjector staticValueInjector =
+        SpringExtension.getApplicationContext(context).getBean(StaticValueInjector.class);
+    context.getStore(NAMESPACE).put(StaticValueSnapshot.class, staticValueInjector.snapshot());
+  }
+
+  @Override
+  public void afterEach(final ExtensionContext context) {
+    final StaticValueSnapshot snapshot =
+        context.getStore(NAMESPACE).remove(StaticValueSnapshot.class, StaticValueSnapshot.class);
+    if (snapshot != null) {
+      snapshot.restore();
+    }
+  }
+}
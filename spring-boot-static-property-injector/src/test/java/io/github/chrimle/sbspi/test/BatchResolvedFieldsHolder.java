@@ -0,0 +1,40 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/** This is a class demonstrating how {@code static} fields are set from prefetched properties. */
+public class BatchResolvedFieldsHolder {
+
+  /** This property is prefetched, but the locally defined property takes precedence. */
+  @StaticValue("${test.batch.first}")
+  public static String FIRST;
+
+  /** This property is prefetched, and takes precedence over its default value. */
+  @StaticValue("${test.batch.second:default}")
+  public static String SECOND;
+
+  /** This property is prefetched, as the key is a literal argument to {@code getProperty}. */
+  @StaticValue("#{getProperty('test.batch.third')}")
+  public static String SPEL_THIRD;
+
+  /** This property is not prefetched, and is resolved from the {@code Environment}. */
+  @StaticValue("${test.batch.local}")
+  public static String LOCAL;
+}
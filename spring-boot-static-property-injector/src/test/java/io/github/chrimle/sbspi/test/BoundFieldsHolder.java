@@ -0,0 +1,75 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticConfigurationProperties;
+import io.github.chrimle.sbspi.StaticValue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/** This is a class demonstrating how {@code static} fields are bound to properties by prefix. */
+@StaticConfigurationProperties(prefix = "test.bound")
+public class BoundFieldsHolder {
+
+  /** This constant is {@code final}, and MUST NOT be bound. */
+  public static final String CONSTANT = "constant";
+
+  /** This property is bound to {@code test.bound.max-connections}. */
+  public static int MAX_CONNECTIONS;
+
+  /** This property is bound to {@code test.bound.request-timeout}. */
+  public static Duration requestTimeout;
+
+  /** This property is bound to {@code test.bound.hosts}. */
+  public static List<String> HOSTS;
+
+  /** This property is bound to {@code test.bound.weights}. */
+  public static Map<String, Integer> WEIGHTS;
+
+  /** This property is bound to {@code test.bound.pool}. */
+  public static Pool POOL;
+
+  /** This property is annotated with {@link StaticValue}, and is injected as such. */
+  @StaticValue("${test.bound.overridden:overridden}")
+  public static String OVERRIDDEN;
+
+  /** Nested type, bound as a JavaBean. */
+  public static class Pool {
+
+    private int size;
+
+    /**
+     * Returns the size of the pool.
+     *
+     * @return the size.
+     */
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Sets the size of the pool.
+     *
+     * @param size of the pool.
+     */
+    public void setSize(final int size) {
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.InMemoryStaticValueBatchResolver;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Class for testing {@link InMemoryStaticValueBatchResolver} counts its round trips. */
+@DisplayName("Testing `InMemoryStaticValueBatchResolver`")
+class InMemoryStaticValueBatchResolverTest {
+
+  @Test
+  @DisplayName("Testing only known keys are resolved, and each invocation is a round trip")
+  void testKnownKeysAreResolved() {
+    final InMemoryStaticValueBatchResolver resolver =
+        new InMemoryStaticValueBatchResolver(Map.of("known", "value"), 2);
+
+    Assertions.assertEquals(Map.of("known", "value"), resolver.resolve(Set.of("known", "unknown")));
+    Assertions.assertEquals(Map.of(), resolver.resolve(Set.of("unknown")));
+    Assertions.assertEquals(2, resolver.getRoundTrips());
+    Assertions.assertEquals(2, resolver.batchSize());
+  }
+}
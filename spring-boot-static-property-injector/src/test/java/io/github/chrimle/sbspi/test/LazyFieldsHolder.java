@@ -0,0 +1,34 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticProperty;
+import io.github.chrimle.sbspi.StaticValue;
+import java.time.Duration;
+
+/** This is a class demonstrating how {@code static} fields are resolved lazily. */
+public class LazyFieldsHolder {
+
+  /** This property is resolved on the first invocation of {@link StaticProperty#get()}. */
+  @StaticValue("${test.lazy.timeout}")
+  public static StaticProperty<Duration> TIMEOUT;
+
+  /** This property is never accessed, and MUST NOT be resolved. */
+  @StaticValue("${test.lazy.unaccessed:1}")
+  public static StaticProperty<Integer> UNACCESSED;
+}
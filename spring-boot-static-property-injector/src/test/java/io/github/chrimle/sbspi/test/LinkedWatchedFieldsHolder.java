@@ -0,0 +1,30 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/**
+ * This is a class demonstrating how {@code static} fields are re-injected when a watched file is
+ * replaced by swapping a symbolic link, as Kubernetes does for mounted {@code ConfigMap}s.
+ */
+public class LinkedWatchedFieldsHolder {
+
+  /** This property is re-injected when {@code test.linked.label} changes. */
+  @StaticValue("${test.linked.label:none}")
+  public static volatile String LABEL;
+}
@@ -0,0 +1,44 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/** This is a class demonstrating how injected {@code static} fields are observed. */
+public class ObservedFieldsHolder {
+
+  /** This property is listed as-is by the {@code staticvalues} endpoint. */
+  @StaticValue("${test.observed.username:admin}")
+  public static String USERNAME;
+
+  /** This property is redacted by the {@code staticvalues} endpoint. */
+  @StaticValue("${test.observed.password:hunter2}")
+  public static String PASSWORD;
+
+  /** This property is sanitized by a {@code SanitizingFunction} bean. */
+  @StaticValue("${test.observed.internal:internal}")
+  public static String INTERNAL;
+
+  /** This property is resolved, even though it is resolved to {@code null}. */
+  @StaticValue("#{null}")
+  public static String NOTHING = "something";
+
+  /** This property is listed by its type only by the {@code staticvalues} endpoint. */
+  @StaticValue("#{new Object()}")
+  public static Object OBJECT;
+}
@@ -0,0 +1,46 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/**
+ * This is a class demonstrating how {@code static} primitive fields can be set using properties.
+ */
+public class PrimitiveFieldsHolder {
+
+  /** This property is set. The expected value is {@code 42}. */
+  @StaticValue("${test.primitives.int}")
+  public static int INT;
+
+  /** This property is set. The expected value is {@code 9000000000L}. */
+  @StaticValue("${test.primitives.long}")
+  public static long LONG;
+
+  /** This property is set. The expected value is {@code 0.5}. */
+  @StaticValue("${test.primitives.double}")
+  public static double DOUBLE;
+
+  /** This property is set. The expected value is {@code true}. */
+  @StaticValue("${test.primitives.boolean}")
+  public static boolean BOOLEAN;
+
+  /** This property is unset and has a default. The expected value is {@code 7}. */
+  @StaticValue("${test.primitives.unset-short:7}")
+  public static short SHORT_WITH_DEFAULT;
+}
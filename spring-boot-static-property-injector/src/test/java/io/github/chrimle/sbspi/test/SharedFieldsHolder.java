@@ -0,0 +1,57 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+import java.util.List;
+
+/** This is a class demonstrating how {@code static} fields sharing the same expression are set. */
+public class SharedFieldsHolder {
+
+  /** This property shares its expression with {@link #OTHER_REGION}. */
+  @StaticValue("${test.shared.region:eu}")
+  public static String REGION;
+
+  /** This property shares its expression with {@link #REGION}. */
+  @StaticValue("${test.shared.region:eu}")
+  public static String OTHER_REGION;
+
+  /** This property shares its expression with {@link #PORT}, but not its type. */
+  @StaticValue("${test.shared.port:8080}")
+  public static String PORT_STRING;
+
+  /** This property shares its expression with {@link #PORT_STRING}, but not its type. */
+  @StaticValue("${test.shared.port:8080}")
+  public static int PORT;
+
+  /** This property shares its SpEL expression with {@link #OTHER_ID}, but is evaluated anew. */
+  @StaticValue("#{T(java.util.UUID).randomUUID().toString()}")
+  public static String ID;
+
+  /** This property shares its SpEL expression with {@link #ID}, but is evaluated anew. */
+  @StaticValue("#{T(java.util.UUID).randomUUID().toString()}")
+  public static String OTHER_ID;
+
+  /** This property shares its expression with {@link #OTHER_REGIONS}, but not its value. */
+  @StaticValue("${test.shared.regions:eu,us}")
+  public static List<String> REGIONS;
+
+  /** This property shares its expression with {@link #REGIONS}, but not its value. */
+  @StaticValue("${test.shared.regions:eu,us}")
+  public static List<String> OTHER_REGIONS;
+}
@@ -0,0 +1,32 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/** This is a class demonstrating how {@code static} fields can be overridden in tests. */
+public class SnapshotFieldsHolder {
+
+  /** This property is restored after each test. */
+  @StaticValue("${test.snapshot.value:original}")
+  public static String VALUE;
+
+  /** This primitive property is restored after each test. */
+  @StaticValue("${test.snapshot.count:1}")
+  public static int COUNT;
+}
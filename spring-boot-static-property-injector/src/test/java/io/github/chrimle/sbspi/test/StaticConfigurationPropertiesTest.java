@@ -0,0 +1,71 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticConfigurationProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticConfigurationProperties} binds the {@code static} fields of {@link
+ * BoundFieldsHolder}.
+ */
+@SpringBootTest(
+    properties = {
+      "test.bound.max-connections=25",
+      "test.bound.requestTimeout=2s",
+      "test.bound.hosts=alpha,beta",
+      "test.bound.weights.primary=3",
+      "test.bound.pool.size=4"
+    })
+@DisplayName("Testing `StaticConfigurationProperties`")
+class StaticConfigurationPropertiesTest {
+
+  @Test
+  @DisplayName("Testing UPPER_SNAKE_CASE and camelCase fields are bound by relaxed names")
+  void testFieldsAreBoundByRelaxedNames() {
+    Assertions.assertEquals(25, BoundFieldsHolder.MAX_CONNECTIONS);
+    Assertions.assertEquals(Duration.ofSeconds(2), BoundFieldsHolder.requestTimeout);
+  }
+
+  @Test
+  @DisplayName("Testing lists and maps are bound")
+  void testListsAndMapsAreBound() {
+    Assertions.assertEquals(List.of("alpha", "beta"), BoundFieldsHolder.HOSTS);
+    Assertions.assertEquals(Map.of("primary", 3), BoundFieldsHolder.WEIGHTS);
+  }
+
+  @Test
+  @DisplayName("Testing nested types are bound")
+  void testNestedTypesAreBound() {
+    Assertions.assertNotNull(BoundFieldsHolder.POOL);
+    Assertions.assertEquals(4, BoundFieldsHolder.POOL.getSize());
+  }
+
+  @Test
+  @DisplayName("Testing fields annotated with `@StaticValue` are injected as such")
+  void testAnnotatedFieldsAreInjected() {
+    Assertions.assertEquals("overridden", BoundFieldsHolder.OVERRIDDEN);
+    Assertions.assertEquals("constant", BoundFieldsHolder.CONSTANT);
+  }
+}
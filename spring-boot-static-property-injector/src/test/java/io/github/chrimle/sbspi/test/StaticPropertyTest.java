@@ -0,0 +1,80 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticProperty;
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Class for testing {@link StaticProperty} fields of {@link LazyFieldsHolder} are resolved lazily.
+ */
+@SpringBootTest(properties = "test.lazy.timeout=3s")
+@DisplayName("Testing `StaticProperty`")
+class StaticPropertyTest {
+
+  private static final String PROPERTY_SOURCE_NAME = "changedLazyProperties";
+
+  @Autowired private StaticValueInjector staticValueInjector;
+  @Autowired private ConfigurableEnvironment environment;
+
+  @AfterEach
+  void restoreProperties() {
+    environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+    staticValueInjector.reinject(Set.of("test.lazy.timeout"));
+  }
+
+  @Test
+  @DisplayName("Testing holder is not resolved until accessed")
+  void testHolderIsNotResolvedUntilAccessed() {
+    Assertions.assertNotNull(LazyFieldsHolder.UNACCESSED);
+    Assertions.assertFalse(LazyFieldsHolder.UNACCESSED.isResolved());
+  }
+
+  @Test
+  @DisplayName("Testing holder resolves and converts value on access")
+  void testHolderResolvesValueOnAccess() {
+    Assertions.assertEquals(Duration.ofSeconds(3), LazyFieldsHolder.TIMEOUT.get());
+    Assertions.assertTrue(LazyFieldsHolder.TIMEOUT.isResolved());
+  }
+
+  @Test
+  @DisplayName("Testing holder is refreshed, not re-assigned, when re-injected")
+  void testHolderIsRefreshedWhenReinjected() {
+    final StaticProperty<Duration> timeout = LazyFieldsHolder.TIMEOUT;
+    Assertions.assertEquals(Duration.ofSeconds(3), timeout.get());
+    environment
+        .getPropertySources()
+        .addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of("test.lazy.timeout", "9s")));
+
+    Assertions.assertEquals(1, staticValueInjector.reinject(Set.of("test.lazy.timeout")));
+
+    Assertions.assertSame(timeout, LazyFieldsHolder.TIMEOUT);
+    Assertions.assertEquals(Duration.ofSeconds(9), timeout.get());
+  }
+}
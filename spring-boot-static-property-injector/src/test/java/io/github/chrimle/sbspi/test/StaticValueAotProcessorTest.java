@@ -0,0 +1,112 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueAotProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+
+/**
+ * Class for testing {@link StaticValueAotProcessor} generates code registering the annotated
+ * fields, and registers reflection hints for them.
+ */
+@SpringBootTest
+@DisplayName("Testing `StaticValueAotProcessor`")
+class StaticValueAotProcessorTest {
+
+  @Autowired private ConfigurableListableBeanFactory beanFactory;
+
+  private final InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+  private DefaultGenerationContext generationContext;
+
+  @BeforeEach
+  void processAheadOfTime() {
+    final BeanFactoryInitializationAotContribution contribution =
+        new StaticValueAotProcessor().processAheadOfTime(beanFactory);
+    Assertions.assertNotNull(contribution);
+    generationContext =
+        new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get(StaticValueAotProcessorTest.class)),
+            generatedFiles);
+    final GeneratedClass generatedClass =
+        generationContext
+            .getGeneratedClasses()
+            .addForFeature("StaticValues", type -> type.addModifiers(Modifier.PUBLIC));
+    contribution.applyTo(
+        generationContext,
+        new BeanFactoryInitializationCode() {
+          @Override
+          public GeneratedMethods getMethods() {
+            return generatedClass.getMethods();
+          }
+
+          @Override
+          public void addInitializer(final MethodReference methodReference) {}
+        });
+    generationContext.writeGeneratedContent();
+  }
+
+  @Test
+  @DisplayName("Testing public fields are assigned directly by generated code")
+  void testPublicFieldsAreAssignedDirectly() throws IOException {
+    Assertions.assertTrue(
+        readGeneratedSources().contains("ReinjectedFieldsHolder.FIRST = (String) value"));
+  }
+
+  @Test
+  @DisplayName("Testing reflection hints are registered for annotated fields")
+  void testReflectionHintsAreRegistered() throws NoSuchFieldException {
+    Assertions.assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onField(ReinjectedFieldsHolder.class.getField("FIRST"))
+            .test(generationContext.getRuntimeHints()));
+  }
+
+  private String readGeneratedSources() throws IOException {
+    final StringBuilder sources = new StringBuilder();
+    for (final Map.Entry<String, InputStreamSource> entry :
+        generatedFiles.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).entrySet()) {
+      try (final InputStream inputStream = entry.getValue().getInputStream()) {
+        sources.append(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return sources.toString();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticValueInjector} injects the fields of {@link AsyncFieldsHolder} in
+ * the background when {@code sbspi.async.enabled=true}, except for SpEL expressions, which are
+ * evaluated by the refreshing thread.
+ */
+@SpringBootTest(properties = {"sbspi.async.enabled=true", "test.async.value=async"})
+@DisplayName("Testing `sbspi.async.enabled`")
+class StaticValueAsyncInjectionTest {
+
+  @Autowired private StaticValueInjector staticValueInjector;
+
+  @Test
+  @DisplayName("Testing fields have been injected once the application has started")
+  void testFieldsAreInjectedOnceStarted() throws InterruptedException {
+    Assertions.assertTrue(staticValueInjector.awaitInjected(Duration.ZERO));
+    Assertions.assertEquals("async", AsyncFieldsHolder.VALUE);
+  }
+
+  @Test
+  @DisplayName("Testing SpEL expressions are evaluated by the refreshing thread")
+  void testSpelExpressionsAreEvaluatedByRefreshingThread() throws InterruptedException {
+    Assertions.assertTrue(staticValueInjector.awaitInjected(Duration.ZERO));
+    Assertions.assertNotNull(AsyncFieldsHolder.INJECTING_THREAD);
+    Assertions.assertFalse(AsyncFieldsHolder.INJECTING_THREAD.startsWith("sbspi-injector-"));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.InMemoryStaticValueBatchResolver;
+import io.github.chrimle.sbspi.StaticValueBatchResolver;
+import io.github.chrimle.sbspi.StaticValueInjectorAutoConfiguration;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Class for testing {@link StaticValueBatchResolver}s prefetch the properties of {@link
+ * BatchResolvedFieldsHolder}.
+ */
+@SpringBootTest(properties = {"test.batch.first=local", "test.batch.local=local"})
+@DisplayName("Testing `StaticValueBatchResolver`")
+class StaticValueBatchResolverTest {
+
+  @Autowired private InMemoryStaticValueBatchResolver batchResolver;
+
+  @Test
+  @DisplayName("Testing prefetched properties are injected")
+  void testPrefetchedPropertiesAreInjected() {
+    Assertions.assertEquals("remote-second", BatchResolvedFieldsHolder.SECOND);
+    Assertions.assertEquals("remote-third", BatchResolvedFieldsHolder.SPEL_THIRD);
+  }
+
+  @Test
+  @DisplayName("Testing prefetched properties do not override other property sources")
+  void testPrefetchedPropertiesDoNotOverride() {
+    Assertions.assertEquals("local", BatchResolvedFieldsHolder.FIRST);
+  }
+
+  @Test
+  @DisplayName("Testing properties not prefetched are resolved from the `Environment`")
+  void testPropertiesNotPrefetchedAreResolved() {
+    Assertions.assertEquals("local", BatchResolvedFieldsHolder.LOCAL);
+  }
+
+  @Test
+  @DisplayName("Testing all properties are prefetched in a single round trip")
+  void testPropertiesArePrefetchedInSingleRoundTrip() {
+    Assertions.assertEquals(1, batchResolver.getRoundTrips());
+  }
+
+  @Test
+  @DisplayName("Testing prefetching by all resolvers is bounded by a single timeout")
+  void testPrefetchingIsBoundedBySingleTimeout() {
+    final AtomicInteger invocations = new AtomicInteger();
+    final StaticValueBatchResolver blockingResolver =
+        keys -> {
+          invocations.incrementAndGet();
+          try {
+            Thread.sleep(Duration.ofMinutes(1).toMillis());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return Map.of();
+        };
+    new ApplicationContextRunner()
+        .withInitializer(
+            context ->
+                context
+                    .getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withConfiguration(
+            AutoConfigurations.of(
+                PropertyPlaceholderAutoConfiguration.class,
+                StaticValueInjectorAutoConfiguration.class))
+        .withPropertyValues(
+            "sbspi.basePackage=io.github.chrimle.sbspi.test",
+            "sbspi.include-patterns=.*TimedOutBatchFieldsHolder",
+            "sbspi.batch.timeout=200ms")
+        .withBean(StringBuilder.class)
+        .withBean("firstBatchResolver", StaticValueBatchResolver.class, () -> blockingResolver)
+        .withBean("secondBatchResolver", StaticValueBatchResolver.class, () -> blockingResolver)
+        .run(
+            context -> {
+              Assertions.assertNull(context.getStartupFailure());
+              Assertions.assertEquals(1, invocations.get());
+              Assertions.assertEquals("default", TimedOutBatchFieldsHolder.TIMED_OUT);
+            });
+  }
+
+  @TestConfiguration
+  static class BatchResolverConfiguration {
+
+    @Bean
+    InMemoryStaticValueBatchResolver batchResolver() {
+      return new InMemoryStaticValueBatchResolver(
+          Map.of(
+              "test.batch.first", "remote-first",
+              "test.batch.second", "remote-second",
+              "test.batch.third", "remote-third"));
+    }
+
+    /** A resolver returning {@code null}, which is treated as an empty map. */
+    @Bean
+    StaticValueBatchResolver nullBatchResolver() {
+      return keys -> null;
+    }
+  }
+}
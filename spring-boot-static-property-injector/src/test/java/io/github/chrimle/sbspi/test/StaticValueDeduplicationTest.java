@@ -0,0 +1,72 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticValueInjector} resolves identical property placeholders of {@link
+ * SharedFieldsHolder} once per injection pass, unless their values are mutable.
+ */
+@SpringBootTest(properties = {"test.shared.region=us", "test.shared.port=9090"})
+@DisplayName("Testing deduplication of identical expressions")
+class StaticValueDeduplicationTest {
+
+  @Autowired private StaticValueInjector staticValueInjector;
+
+  @Test
+  @DisplayName("Testing fields sharing an expression are assigned the same value")
+  void testFieldsSharingExpressionAreAssigned() {
+    Assertions.assertEquals("us", SharedFieldsHolder.REGION);
+    Assertions.assertEquals("us", SharedFieldsHolder.OTHER_REGION);
+  }
+
+  @Test
+  @DisplayName("Testing fields sharing an expression, but not a type, are converted separately")
+  void testFieldsSharingExpressionButNotTypeAreConverted() {
+    Assertions.assertEquals("9090", SharedFieldsHolder.PORT_STRING);
+    Assertions.assertEquals(9090, SharedFieldsHolder.PORT);
+  }
+
+  @Test
+  @DisplayName("Testing fields sharing a SpEL expression are evaluated separately")
+  void testFieldsSharingSpelExpressionAreEvaluated() {
+    Assertions.assertNotNull(SharedFieldsHolder.ID);
+    Assertions.assertNotEquals(SharedFieldsHolder.ID, SharedFieldsHolder.OTHER_ID);
+  }
+
+  @Test
+  @DisplayName("Testing fields sharing an expression do not share mutable values")
+  void testFieldsSharingExpressionDoNotShareMutableValues() {
+    Assertions.assertEquals(List.of("eu", "us"), SharedFieldsHolder.REGIONS);
+    Assertions.assertEquals(SharedFieldsHolder.REGIONS, SharedFieldsHolder.OTHER_REGIONS);
+    Assertions.assertNotSame(SharedFieldsHolder.REGIONS, SharedFieldsHolder.OTHER_REGIONS);
+  }
+
+  @Test
+  @DisplayName("Testing saved evaluations are counted")
+  void testSavedEvaluationsAreCounted() {
+    Assertions.assertTrue(staticValueInjector.getSavedEvaluations() >= 1);
+  }
+}
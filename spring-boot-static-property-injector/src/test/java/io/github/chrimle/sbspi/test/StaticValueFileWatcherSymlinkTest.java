@@ -0,0 +1,89 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueFileWatcher;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticValueFileWatcher} re-injects the fields of {@link
+ * LinkedWatchedFieldsHolder} when the watched file is replaced by atomically swapping the {@code
+ * ..data} symbolic link of its directory, as for Kubernetes {@code ConfigMap}s and {@code Secret}s.
+ * No change event names the watched file itself.
+ */
+@SpringBootTest(properties = {"sbspi.watch.files=${test.linked.file}", "sbspi.watch.debounce=50ms"})
+@DisabledOnOs(OS.WINDOWS)
+@DisplayName("Testing `StaticValueFileWatcher` with symbolic links")
+class StaticValueFileWatcherSymlinkTest {
+
+  /** The maximum latency between swapping the link, and the fields being re-injected. */
+  private static final Duration MAX_RELOAD_LATENCY = Duration.ofSeconds(30);
+
+  private static final Path DIRECTORY;
+
+  static {
+    try {
+      DIRECTORY = Files.createTempDirectory("sbspi-linked");
+      writeVersion("..initial", "test.linked.label=initial\n");
+      Files.createSymbolicLink(DIRECTORY.resolve("..data"), Path.of("..initial"));
+      Files.createSymbolicLink(
+          DIRECTORY.resolve("linked.properties"), Path.of("..data", "linked.properties"));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    System.setProperty("test.linked.file", DIRECTORY.resolve("linked.properties").toString());
+  }
+
+  @Test
+  @DisplayName("Testing properties are re-injected when the `..data` link is swapped")
+  void testPropertiesAreReinjectedWhenLinkIsSwapped() throws IOException, InterruptedException {
+    Assertions.assertEquals("initial", LinkedWatchedFieldsHolder.LABEL);
+    writeVersion("..swapped", "test.linked.label=swapped\n");
+    final Path temporaryLink =
+        Files.createSymbolicLink(DIRECTORY.resolve("..data_tmp"), Path.of("..swapped"));
+    Files.move(
+        temporaryLink,
+        DIRECTORY.resolve("..data"),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+
+    final long deadline = System.nanoTime() + MAX_RELOAD_LATENCY.toNanos();
+    while (!"swapped".equals(LinkedWatchedFieldsHolder.LABEL)) {
+      Assertions.assertTrue(
+          System.nanoTime() - deadline < 0,
+          "Fields were not re-injected within " + MAX_RELOAD_LATENCY);
+      Thread.sleep(10);
+    }
+  }
+
+  private static void writeVersion(final String version, final String properties)
+      throws IOException {
+    Files.writeString(
+        Files.createDirectory(DIRECTORY.resolve(version)).resolve("linked.properties"), properties);
+  }
+}
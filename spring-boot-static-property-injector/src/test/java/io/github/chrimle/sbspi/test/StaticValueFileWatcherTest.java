@@ -0,0 +1,122 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueFileWatcher;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticValueFileWatcher} re-injects the fields of {@link
+ * WatchedFieldsHolder} when the watched file in a temporary directory changes.
+ */
+@SpringBootTest(properties = {"sbspi.watch.files=${test.watch.file}", "sbspi.watch.debounce=50ms"})
+@DisplayName("Testing `StaticValueFileWatcher`")
+class StaticValueFileWatcherTest {
+
+  private static final String INITIAL_PROPERTIES =
+      "test.watch.threshold=1\ntest.watch.label=initial\n";
+
+  /** The maximum latency between writing the file, and the fields being re-injected. */
+  private static final Duration MAX_RELOAD_LATENCY = Duration.ofSeconds(30);
+
+  private static final Duration DEBOUNCE = Duration.ofMillis(50);
+
+  private static final Path FILE;
+
+  static {
+    try {
+      FILE = Files.createTempDirectory("sbspi-watch").resolve("watched.properties");
+      Files.writeString(FILE, INITIAL_PROPERTIES);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    System.setProperty("test.watch.file", FILE.toString());
+  }
+
+  @AfterEach
+  void restoreFile() throws IOException, InterruptedException {
+    Files.writeString(FILE, INITIAL_PROPERTIES);
+    awaitReload(
+        () -> WatchedFieldsHolder.THRESHOLD == 1 && "initial".equals(WatchedFieldsHolder.LABEL));
+  }
+
+  @Test
+  @DisplayName("Testing fields are injected from the watched file")
+  void testFieldsAreInjectedFromWatchedFile() {
+    Assertions.assertEquals(1, WatchedFieldsHolder.THRESHOLD);
+    Assertions.assertEquals("initial", WatchedFieldsHolder.LABEL);
+  }
+
+  @Test
+  @DisplayName("Testing changed properties are re-injected")
+  void testChangedPropertiesAreReinjected() throws IOException, InterruptedException {
+    final long start = System.nanoTime();
+    Files.writeString(FILE, "test.watch.threshold=2\ntest.watch.label=initial\n");
+
+    awaitReload(() -> WatchedFieldsHolder.THRESHOLD == 2);
+    final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+    Assertions.assertEquals("initial", WatchedFieldsHolder.LABEL);
+    Assertions.assertTrue(latency.compareTo(DEBOUNCE) >= 0, "Reloaded before debouncing");
+  }
+
+  @Test
+  @DisplayName("Testing removed properties are re-injected with their default values")
+  void testRemovedPropertiesAreReinjectedWithDefaults() throws IOException, InterruptedException {
+    Files.writeString(FILE, "test.watch.threshold=1\n");
+
+    awaitReload(() -> "none".equals(WatchedFieldsHolder.LABEL));
+    Assertions.assertEquals(1, WatchedFieldsHolder.THRESHOLD);
+  }
+
+  @Test
+  @DisplayName("Testing the last of a burst of changes is re-injected")
+  void testLastOfBurstOfChangesIsReinjected() throws IOException, InterruptedException {
+    for (int threshold = 10; threshold <= 15; threshold++) {
+      Files.writeString(FILE, "test.watch.threshold=" + threshold + "\ntest.watch.label=burst\n");
+    }
+
+    awaitReload(
+        () -> WatchedFieldsHolder.THRESHOLD == 15 && "burst".equals(WatchedFieldsHolder.LABEL));
+  }
+
+  /**
+   * Waits until the {@code condition} is met, and asserts that it was met within {@link
+   * #MAX_RELOAD_LATENCY}.
+   *
+   * @param condition to wait for.
+   */
+  private static void awaitReload(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + MAX_RELOAD_LATENCY.toNanos();
+    while (!condition.getAsBoolean()) {
+      Assertions.assertTrue(
+          System.nanoTime() - deadline < 0,
+          "Fields were not re-injected within " + MAX_RELOAD_LATENCY);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueIndexProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class for testing {@link StaticValueIndexProcessor} is generating an index of the annotated
+ * fields of the test sources.
+ */
+@DisplayName("Testing `StaticValueIndexProcessor`")
+class StaticValueIndexProcessorTest {
+
+  private static final String INDEX_LOCATION = "META-INF/sbspi/static-values.idx";
+
+  @Test
+  @DisplayName("Testing the index lists the annotated fields of `StringFieldsHolder`")
+  void testIndexListsAnnotatedFields() throws IOException {
+    final List<String> lines = readIndex();
+    Assertions.assertTrue(
+        lines.contains(
+            String.join(
+                "\t",
+                StringFieldsHolder.class.getName(),
+                "SET_STRING_WITH_DEFAULT",
+                String.class.getName(),
+                "${test.strings.set-string-with-default:gamma}")));
+    Assertions.assertTrue(
+        lines.contains(
+            String.join(
+                "\t",
+                StringFieldsHolder.class.getName(),
+                "UNSET_SPEL_STRING_WITH_DEFAULT",
+                String.class.getName(),
+                "#{getProperty('test.strings.unset-spel-string-with-default') ?: 'epsilon'}")));
+  }
+
+  @Test
+  @DisplayName("Testing the index lists the bound fields of `BoundFieldsHolder`")
+  void testIndexListsBoundFields() throws IOException {
+    final List<String> lines = readIndex();
+    Assertions.assertTrue(
+        lines.contains(
+            String.join(
+                "\t", BoundFieldsHolder.class.getName(), "MAX_CONNECTIONS", "int", "test.bound")));
+    Assertions.assertTrue(
+        lines.stream()
+            .noneMatch(line -> line.startsWith(BoundFieldsHolder.class.getName() + "\tCONSTANT")));
+  }
+
+  private static List<String> readIndex() throws IOException {
+    try (final InputStream inputStream =
+        StaticValueIndexProcessorTest.class.getClassLoader().getResourceAsStream(INDEX_LOCATION)) {
+      Assertions.assertNotNull(inputStream, INDEX_LOCATION + " has not been generated");
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueInjectorAutoConfiguration;
+import io.github.chrimle.sbspi.StaticValuesEndpoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Class for testing {@link StaticValueInjectorAutoConfiguration} only registers {@link
+ * StaticValueInjector} when {@code sbspi.basePackage} is set.
+ */
+@SpringBootTest
+@DisplayName("Testing `StaticValueInjectorAutoConfiguration`")
+class StaticValueInjectorAutoConfigurationTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withInitializer(
+              context ->
+                  context
+                      .getBeanFactory()
+                      .setConversionService(ApplicationConversionService.getSharedInstance()))
+          .withConfiguration(
+              AutoConfigurations.of(
+                  PropertyPlaceholderAutoConfiguration.class,
+                  StaticValueInjectorAutoConfiguration.class));
+
+  @Autowired private ApplicationContext applicationContext;
+
+  @Test
+  @DisplayName("Testing `StaticValueInjector` is auto-configured when `sbspi.basePackage` is set")
+  void testInjectorIsAutoConfigured() {
+    Assertions.assertArrayEquals(
+        new String[] {StaticValueInjector.class.getName()},
+        applicationContext.getBeanNamesForType(StaticValueInjector.class));
+  }
+
+  @Test
+  @DisplayName("Testing `StaticValueInjector` is not registered without `sbspi.basePackage`")
+  void testInjectorIsNotRegisteredWithoutBasePackage() {
+    contextRunner.run(
+        context ->
+            Assertions.assertEquals(
+                0, context.getBeanNamesForType(StaticValueInjector.class).length));
+  }
+
+  @Test
+  @DisplayName("Testing `StaticValueInjector` is auto-configured for `sbspi.base-package`")
+  void testInjectorIsAutoConfiguredWithDashedBasePackage() {
+    contextRunner
+        .withPropertyValues("sbspi.base-package=io.github.chrimle.sbspi.test.none")
+        .run(
+            context ->
+                Assertions.assertEquals(
+                    1, context.getBeanNamesForType(StaticValueInjector.class).length));
+  }
+
+  @Test
+  @DisplayName("Testing `StaticValueInjector` is auto-configured for `sbspi.basePackage[0]`")
+  void testInjectorIsAutoConfiguredWithIndexedBasePackage() {
+    contextRunner
+        .withPropertyValues("sbspi.basePackage[0]=io.github.chrimle.sbspi.test.none")
+        .run(
+            context ->
+                Assertions.assertEquals(
+                    1, context.getBeanNamesForType(StaticValueInjector.class).length));
+  }
+
+  @Test
+  @DisplayName("Testing the auto-configuration backs off if `StaticValueInjector` is registered")
+  void testAutoConfigurationBacksOff() {
+    contextRunner
+        .withPropertyValues("sbspi.basePackage=io.github.chrimle.sbspi.test.none")
+        .withBean("staticValueInjector", StaticValueInjector.class)
+        .run(
+            context ->
+                Assertions.assertArrayEquals(
+                    new String[] {"staticValueInjector"},
+                    context.getBeanNamesForType(StaticValueInjector.class)));
+  }
+
+  @Test
+  @DisplayName("Testing `StaticValuesEndpoint` is only registered when it is exposed")
+  void testEndpointIsOnlyRegisteredWhenExposed() {
+    final ApplicationContextRunner runner =
+        contextRunner.withPropertyValues("sbspi.basePackage=io.github.chrimle.sbspi.test.none");
+    runner.run(
+        context ->
+            Assertions.assertEquals(
+                0, context.getBeanNamesForType(StaticValuesEndpoint.class).length));
+    runner
+        .withPropertyValues("management.endpoints.web.exposure.include=staticvalues")
+        .run(
+            context ->
+                Assertions.assertEquals(
+                    1, context.getBeanNamesForType(StaticValuesEndpoint.class).length));
+    runner
+        .withPropertyValues(
+            "management.endpoints.web.exposure.include=staticvalues",
+            "management.endpoint.staticvalues.access=NONE")
+        .run(
+            context ->
+                Assertions.assertEquals(
+                    0, context.getBeanNamesForType(StaticValuesEndpoint.class).length));
+  }
+}
@@ -0,0 +1,272 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueInjectorAutoConfiguration;
+import io.github.chrimle.sbspi.StaticValueInjectorException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * Class for testing {@link StaticValueInjector} is correctly resolving the values of the static
+ * fields of classes under test.
+ */
+@SpringBootTest(
+    properties = {
+      "test.strings.set-string-without-default=beta",
+      "test.strings.set-string-with-default=delta",
+      "test.strings.set-spel-string-without-default=zeta",
+      "test.strings.set-spel-string-with-default=eta",
+      "test.primitives.int=42",
+      "test.primitives.long=9000000000",
+      "test.primitives.double=0.5",
+      "test.primitives.boolean=true",
+      "test.typed.integers=1,2,3"
+    })
+@DisplayName("Testing `StaticValueInjector`")
+class StaticValueInjectorTest {
+
+  /**
+   * Tests injecting values into {@code static} {@link String} fields of {@link StringFieldsHolder}.
+   *
+   * @see StringFieldsHolder
+   */
+  @Nested
+  @DisplayName("Testing `String`s")
+  class StringTests {
+
+    @Nested
+    @DisplayName("Testing Spring Boot Properties (prefixed with $)")
+    class SpringBootPropertyTests {
+
+      @Test
+      @DisplayName("Testing unset `String` without default resolves to `null`")
+      void testUnsetStringWithoutDefault() {
+        Assertions.assertNull(StringFieldsHolder.UNSET_STRING_WITHOUT_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing unset `String` with default resolves to default")
+      void testUnsetStringWithDefault() {
+        Assertions.assertEquals("alpha", StringFieldsHolder.UNSET_STRING_WITH_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing set `String` without default resolves to set value")
+      void testSetStringWithoutDefault() {
+        Assertions.assertEquals("beta", StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing set `String` with default resolves to set value")
+      void testSetStringWithDefault() {
+        Assertions.assertEquals("delta", StringFieldsHolder.SET_STRING_WITH_DEFAULT);
+      }
+    }
+
+    @Nested
+    @DisplayName("Testing SpEL (prefixed with #)")
+    class SpELTests {
+
+      @Test
+      @DisplayName("Testing unset `String` without default resolves to `null`")
+      void testUnsetStringWithoutDefault() {
+        Assertions.assertNull(StringFieldsHolder.UNSET_SPEL_STRING_WITHOUT_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing unset `String` with default resolves to default value")
+      void testUnsetStringWithDefault() {
+        Assertions.assertEquals("epsilon", StringFieldsHolder.UNSET_SPEL_STRING_WITH_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing set `String` without default resolves to set value")
+      void testSetStringWithoutDefault() {
+        Assertions.assertEquals("zeta", StringFieldsHolder.SET_SPEL_STRING_WITHOUT_DEFAULT);
+      }
+
+      @Test
+      @DisplayName("Testing set `String` with default resolves to set value")
+      void testSetStringWithDefault() {
+        Assertions.assertEquals("eta", StringFieldsHolder.SET_SPEL_STRING_WITH_DEFAULT);
+      }
+    }
+  }
+
+  /**
+   * Tests injecting values into {@code static} primitive fields of {@link PrimitiveFieldsHolder}.
+   *
+   * @see PrimitiveFieldsHolder
+   */
+  @Nested
+  @DisplayName("Testing primitives")
+  class PrimitiveTests {
+
+    @Test
+    @DisplayName("Testing set `int` resolves to set value")
+    void testSetInt() {
+      Assertions.assertEquals(42, PrimitiveFieldsHolder.INT);
+    }
+
+    @Test
+    @DisplayName("Testing set `long` resolves to set value")
+    void testSetLong() {
+      Assertions.assertEquals(9_000_000_000L, PrimitiveFieldsHolder.LONG);
+    }
+
+    @Test
+    @DisplayName("Testing set `double` resolves to set value")
+    void testSetDouble() {
+      Assertions.assertEquals(0.5, PrimitiveFieldsHolder.DOUBLE);
+    }
+
+    @Test
+    @DisplayName("Testing set `boolean` resolves to set value")
+    void testSetBoolean() {
+      Assertions.assertTrue(PrimitiveFieldsHolder.BOOLEAN);
+    }
+
+    @Test
+    @DisplayName("Testing unset `short` with default resolves to default")
+    void testUnsetShortWithDefault() {
+      Assertions.assertEquals((short) 7, PrimitiveFieldsHolder.SHORT_WITH_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Testing `null` values are rejected with `StaticValueInjectorException`")
+    void testNullIsRejected() {
+      new ApplicationContextRunner()
+          .withInitializer(
+              context -> context.getBeanFactory().setConversionService(new NullConversionService()))
+          .withConfiguration(
+              AutoConfigurations.of(
+                  PropertyPlaceholderAutoConfiguration.class,
+                  StaticValueInjectorAutoConfiguration.class))
+          .withPropertyValues(
+              "sbspi.basePackage=io.github.chrimle.sbspi.test",
+              "sbspi.include-patterns=.*PrimitiveFieldsHolder",
+              "test.primitives.int=42",
+              "test.primitives.long=9000000000",
+              "test.primitives.double=0.5",
+              "test.primitives.boolean=true")
+          .withBean(StringBuilder.class)
+          .run(
+              context -> {
+                Throwable failure = context.getStartupFailure();
+                while (failure != null && !(failure instanceof StaticValueInjectorException)) {
+                  failure = failure.getCause();
+                }
+                final StaticValueInjectorException exception =
+                    Assertions.assertInstanceOf(StaticValueInjectorException.class, failure);
+                Assertions.assertEquals(
+                    StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNPARSABLE,
+                    exception.getReason());
+                Assertions.assertTrue(
+                    exception
+                        .getMessage()
+                        .startsWith(
+                            "Field 'PrimitiveFieldsHolder.%s' "
+                                .formatted(exception.getAnnotatedField())));
+              });
+      Assertions.assertEquals(42, PrimitiveFieldsHolder.INT);
+      Assertions.assertEquals((short) 7, PrimitiveFieldsHolder.SHORT_WITH_DEFAULT);
+    }
+  }
+
+  /**
+   * Tests injecting typed values into {@code static} fields of {@link TypedFieldsHolder}.
+   *
+   * @see TypedFieldsHolder
+   */
+  @Nested
+  @DisplayName("Testing typed values")
+  class TypedTests {
+
+    @Test
+    @DisplayName("Testing set `List<Integer>` resolves to converted elements")
+    void testSetIntegerList() {
+      Assertions.assertEquals(List.of(1, 2, 3), TypedFieldsHolder.INTEGERS);
+    }
+
+    @Test
+    @DisplayName("Testing unset `Duration` with default resolves to default")
+    void testUnsetDurationWithDefault() {
+      Assertions.assertEquals(Duration.ofSeconds(5), TypedFieldsHolder.DURATION_WITH_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Testing SpEL `Map<String, Duration>` resolves to evaluated value")
+    void testSpelDurationMap() {
+      Assertions.assertEquals(Map.of("a", Duration.ofSeconds(1)), TypedFieldsHolder.DURATIONS);
+    }
+
+    @Test
+    @DisplayName("Testing SpEL `int` is converted to `long`")
+    void testSpelLong() {
+      Assertions.assertEquals(42L, TypedFieldsHolder.SPEL_LONG);
+    }
+  }
+
+  /**
+   * A {@link ConversionService} which converts the values of fields annotated with {@link
+   * StaticValue} to {@code null}, and any other value as by {@link ApplicationConversionService}.
+   */
+  private static final class NullConversionService implements ConversionService {
+
+    private final ConversionService delegate = ApplicationConversionService.getSharedInstance();
+
+    @Override
+    public boolean canConvert(final Class<?> sourceType, final Class<?> targetType) {
+      return delegate.canConvert(sourceType, targetType);
+    }
+
+    @Override
+    public boolean canConvert(final TypeDescriptor sourceType, final TypeDescriptor targetType) {
+      return delegate.canConvert(sourceType, targetType);
+    }
+
+    @Override
+    public <T> T convert(final Object source, final Class<T> targetType) {
+      return delegate.convert(source, targetType);
+    }
+
+    @Override
+    public Object convert(
+        final Object source, final TypeDescriptor sourceType, final TypeDescriptor targetType) {
+      if (targetType.hasAnnotation(StaticValue.class)) {
+        return null;
+      }
+      return delegate.convert(source, sourceType, targetType);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Class for testing {@link StaticValueInjector#reinject(Set)} only re-injects the fields of {@link
+ * ReinjectedFieldsHolder} referencing changed properties.
+ */
+@SpringBootTest(properties = {"test.reinject.first=initial", "test.reinject.second=initial"})
+@DisplayName("Testing `StaticValueInjector#reinject(Set)`")
+class StaticValueReinjectionTest {
+
+  private static final String PROPERTY_SOURCE_NAME = "changedProperties";
+
+  @Autowired private StaticValueInjector staticValueInjector;
+  @Autowired private ConfigurableEnvironment environment;
+
+  @AfterEach
+  void restoreProperties() {
+    environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+    staticValueInjector.reinject(Set.of("test.reinject.first", "test.reinject.second"));
+  }
+
+  @Test
+  @DisplayName("Testing fields referencing changed keys are re-injected")
+  void testFieldsReferencingChangedKeysAreReinjected() {
+    changeProperties();
+    Assertions.assertEquals("initial", ReinjectedFieldsHolder.FIRST);
+
+    staticValueInjector.reinject(Set.of("test.reinject.first"));
+
+    Assertions.assertEquals("changed", ReinjectedFieldsHolder.FIRST);
+    Assertions.assertEquals("changed", ReinjectedFieldsHolder.SPEL_FIRST);
+  }
+
+  @Test
+  @DisplayName("Testing fields not referencing changed keys are not re-injected")
+  void testFieldsNotReferencingChangedKeysAreNotReinjected() {
+    changeProperties();
+
+    staticValueInjector.reinject(Set.of("test.reinject.first"));
+
+    Assertions.assertEquals("initial", ReinjectedFieldsHolder.SECOND);
+  }
+
+  @Test
+  @DisplayName("Testing no fields are re-injected for unreferenced keys")
+  void testNoFieldsAreReinjectedForUnreferencedKeys() {
+    Assertions.assertEquals(0, staticValueInjector.reinject(Set.of("test.reinject.unreferenced")));
+  }
+
+  private void changeProperties() {
+    environment
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                PROPERTY_SOURCE_NAME,
+                Map.of("test.reinject.first", "changed", "test.reinject.second", "changed")));
+  }
+}
@@ -0,0 +1,161 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueBatchResolver;
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Class for testing {@link StaticValueInjector} releases the annotated fields after injection, when
+ * {@code sbspi.reload.enabled=false}.
+ */
+@SpringBootTest(properties = {"sbspi.reload.enabled=false", "test.reinject.first=initial"})
+@DisplayName("Testing `StaticValueInjector` with `sbspi.reload.enabled=false`")
+class StaticValueReloadDisabledTest {
+
+  private static final String PROPERTY_SOURCE_NAME = "changedProperties";
+  private static final String SCANNER_CLASS_NAME =
+      "io.github.chrimle.sbspi.StaticValueFieldScanner";
+
+  @Autowired private StaticValueInjector staticValueInjector;
+  @Autowired private ConfigurableEnvironment environment;
+
+  @AfterEach
+  void restoreProperties() {
+    environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+  }
+
+  @Test
+  @DisplayName("Testing fields are injected")
+  void testFieldsAreInjected() {
+    Assertions.assertEquals("initial", ReinjectedFieldsHolder.FIRST);
+  }
+
+  @Test
+  @DisplayName("Testing no fields are re-injected")
+  void testNoFieldsAreReinjected() {
+    environment
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of("test.reinject.first", "changed")));
+
+    Assertions.assertEquals(0, staticValueInjector.reinject(Set.of("test.reinject.first")));
+    Assertions.assertEquals("initial", ReinjectedFieldsHolder.FIRST);
+  }
+
+  @Test
+  @DisplayName("Testing injected fields are still listed")
+  void testInjectedFieldsAreStillListed() {
+    Assertions.assertTrue(
+        staticValueInjector.getInjectedStaticValues().stream()
+            .anyMatch(
+                injectedStaticValue ->
+                    injectedStaticValue.className().equals(ReinjectedFieldsHolder.class.getName())
+                        && injectedStaticValue.fieldName().equals("FIRST")
+                        && injectedStaticValue.resolved()));
+  }
+
+  @Test
+  @DisplayName("Testing the scanned class files and the annotated fields are garbage collected")
+  void testScanStateIsGarbageCollected() throws InterruptedException {
+    final List<WeakReference<Resource>> scannedClassFiles = new CopyOnWriteArrayList<>();
+    final List<WeakReference<Object>> annotatedFields = new CopyOnWriteArrayList<>();
+    // Records the class files listed for the scanner, but not those listed by component scanning,
+    // nor the package directories which they are listed from
+    final PathMatchingResourcePatternResolver resourceLoader =
+        new PathMatchingResourcePatternResolver() {
+          @Override
+          public Resource[] getResources(final String locationPattern) throws IOException {
+            final Resource[] resources = super.getResources(locationPattern);
+            if (StackWalker.getInstance()
+                .walk(
+                    frames ->
+                        frames.anyMatch(
+                            frame -> frame.getClassName().equals(SCANNER_CLASS_NAME)))) {
+              for (final Resource resource : resources) {
+                if (resource.getFilename() != null && resource.getFilename().endsWith(".class")) {
+                  scannedClassFiles.add(new WeakReference<>(resource));
+                }
+              }
+            }
+            return resources;
+          }
+        };
+
+    try (final ConfigurableApplicationContext ignored =
+        new SpringApplicationBuilder(TestSpringBootApplication.class)
+            .resourceLoader(resourceLoader)
+            .properties(
+                "sbspi.reload.enabled=false",
+                "sbspi.index.enabled=false",
+                "test.reinject.first=initial",
+                "test.strings.set-string-without-default=beta")
+            .initializers(
+                context ->
+                    ((GenericApplicationContext) context)
+                        .registerBean(
+                            StaticValueBatchResolver.class,
+                            // Invoked while injecting, when the annotated fields are still held
+                            () ->
+                                keys -> {
+                                  annotatedFields.add(
+                                      new WeakReference<>(
+                                          ReflectionTestUtils.getField(
+                                              context.getBean(StaticValueInjector.class),
+                                              "annotatedFields")));
+                                  return Map.of();
+                                }))
+            .run()) {
+      Assertions.assertFalse(scannedClassFiles.isEmpty());
+      Assertions.assertFalse(annotatedFields.isEmpty());
+
+      awaitGarbageCollection(scannedClassFiles);
+      awaitGarbageCollection(annotatedFields);
+      Assertions.assertTrue(scannedClassFiles.stream().allMatch(file -> file.get() == null));
+      Assertions.assertTrue(annotatedFields.stream().allMatch(field -> field.get() == null));
+    }
+  }
+
+  private static void awaitGarbageCollection(final List<? extends WeakReference<?>> references)
+      throws InterruptedException {
+    for (int i = 0; i < 50 && references.stream().anyMatch(ref -> ref.get() != null); i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Class for testing {@link StaticValueInjector} caches the scanned fields in {@code
+ * sbspi.cache.directory}, and reuses the cache file on subsequent startups. The test classes are
+ * located in classpath directories, which are fingerprinted by the attributes of their class files.
+ */
+@SpringBootTest(
+    properties = {"sbspi.index.enabled=false", "test.strings.set-string-without-default=beta"})
+@DisplayName("Testing `sbspi.cache.directory`")
+class StaticValueScanCacheTest {
+
+  private static final Path CACHE_DIRECTORY;
+
+  static {
+    try {
+      CACHE_DIRECTORY = Files.createTempDirectory("sbspi-cache");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @DynamicPropertySource
+  static void cacheDirectory(final DynamicPropertyRegistry registry) {
+    registry.add("sbspi.cache.directory", CACHE_DIRECTORY::toString);
+  }
+
+  @Test
+  @DisplayName("Testing scanned fields are cached")
+  void testScannedFieldsAreCached() throws IOException {
+    final List<Path> cacheFiles = listCacheDirectory();
+    Assertions.assertEquals(1, cacheFiles.size());
+    Assertions.assertTrue(cacheFiles.get(0).getFileName().toString().endsWith(".cache"));
+    Assertions.assertTrue(Files.size(cacheFiles.get(0)) > 0);
+  }
+
+  @Test
+  @DisplayName("Testing fields are injected on subsequent startups, reusing the cache file")
+  void testCachedFieldsAreInjected() throws IOException {
+    final Path cacheFile = listCacheDirectory().get(0);
+    final FileTime lastModified = Files.getLastModifiedTime(cacheFile);
+    StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT = null;
+
+    try (final ConfigurableApplicationContext ignored =
+        new SpringApplicationBuilder(TestSpringBootApplication.class)
+            .properties(
+                "sbspi.index.enabled=false",
+                "sbspi.cache.directory=" + CACHE_DIRECTORY,
+                "test.strings.set-string-without-default=beta")
+            .run()) {
+      Assertions.assertEquals("beta", StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT);
+    }
+    Assertions.assertEquals(List.of(cacheFile), listCacheDirectory());
+    Assertions.assertEquals(lastModified, Files.getLastModifiedTime(cacheFile));
+  }
+
+  @Test
+  @DisplayName("Testing classpath directories are cached")
+  void testClasspathDirectoriesAreCached() throws Exception {
+    final String testClassesRoot =
+        StaticValueScanCacheTest.class
+            .getProtectionDomain()
+            .getCodeSource()
+            .getLocation()
+            .toURI()
+            .toString();
+
+    Assertions.assertTrue(
+        readCachedRoots(listCacheDirectory().get(0)).contains(testClassesRoot),
+        "Expected the cache file to contain " + testClassesRoot);
+  }
+
+  @Test
+  @DisplayName("Testing corrupt cache files are ignored, and rewritten")
+  void testCorruptCacheFilesAreRewritten() throws IOException {
+    final Path corruptCacheDirectory = Files.createTempDirectory("sbspi-cache");
+    final Path cacheFile = corruptCacheDirectory.resolve(listCacheDirectory().get(0).getFileName());
+    try (final DataOutputStream out = new DataOutputStream(Files.newOutputStream(cacheFile))) {
+      out.writeInt(0x53425350);
+      out.writeInt(2);
+      out.writeInt(1);
+      out.writeUTF("file:/corrupt/");
+      out.writeUTF("corrupt");
+      out.writeInt(-1);
+    }
+    StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT = null;
+
+    try (final ConfigurableApplicationContext ignored =
+        new SpringApplicationBuilder(TestSpringBootApplication.class)
+            .properties(
+                "sbspi.index.enabled=false",
+                "sbspi.cache.directory=" + corruptCacheDirectory,
+                "test.strings.set-string-without-default=beta")
+            .run()) {
+      Assertions.assertEquals("beta", StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT);
+    }
+    Assertions.assertFalse(readCachedRoots(cacheFile).isEmpty());
+  }
+
+  /** Reads the URLs of the classpath roots in the {@code cacheFile}. */
+  private static List<String> readCachedRoots(final Path cacheFile) throws IOException {
+    try (final DataInputStream in = new DataInputStream(Files.newInputStream(cacheFile))) {
+      in.readInt();
+      in.readInt();
+      final List<String> roots = new ArrayList<>();
+      for (int i = in.readInt(); i > 0; i--) {
+        roots.add(in.readUTF());
+        in.readUTF();
+        for (int j = in.readInt(); j > 0; j--) {
+          in.readUTF();
+        }
+      }
+      return roots;
+    }
+  }
+
+  private static List<Path> listCacheDirectory() throws IOException {
+    try (final Stream<Path> files = Files.list(CACHE_DIRECTORY)) {
+      return files.toList();
+    }
+  }
+}
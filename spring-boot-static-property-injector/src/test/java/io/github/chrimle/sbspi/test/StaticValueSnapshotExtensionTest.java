@@ -0,0 +1,77 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueSnapshot;
+import io.github.chrimle.sbspi.junit.StaticValueSnapshotExtension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Class for testing {@link StaticValueSnapshotExtension} restores the fields of {@link
+ * SnapshotFieldsHolder} after each test, and {@link StaticValueInjector#snapshot()}.
+ */
+@SpringBootTest
+@ExtendWith(StaticValueSnapshotExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Testing `StaticValueSnapshotExtension`")
+class StaticValueSnapshotExtensionTest {
+
+  @Autowired private StaticValueInjector staticValueInjector;
+
+  @Test
+  @Order(1)
+  @DisplayName("Testing fields may be overridden by a test")
+  void testFieldsMayBeOverridden() {
+    SnapshotFieldsHolder.VALUE = "overridden";
+    SnapshotFieldsHolder.COUNT = 42;
+
+    Assertions.assertEquals("overridden", SnapshotFieldsHolder.VALUE);
+  }
+
+  @Test
+  @Order(2)
+  @DisplayName("Testing overridden fields are restored after the test")
+  void testOverriddenFieldsAreRestored() {
+    Assertions.assertEquals("original", SnapshotFieldsHolder.VALUE);
+    Assertions.assertEquals(1, SnapshotFieldsHolder.COUNT);
+  }
+
+  @Test
+  @Order(3)
+  @DisplayName("Testing a snapshot restores all fields")
+  void testSnapshotRestoresAllFields() {
+    final StaticValueSnapshot snapshot = staticValueInjector.snapshot();
+    SnapshotFieldsHolder.VALUE = "overridden";
+    SnapshotFieldsHolder.COUNT = 42;
+
+    snapshot.restore();
+
+    Assertions.assertEquals("original", SnapshotFieldsHolder.VALUE);
+    Assertions.assertEquals(1, SnapshotFieldsHolder.COUNT);
+    Assertions.assertTrue(snapshot.size() >= 2);
+  }
+}
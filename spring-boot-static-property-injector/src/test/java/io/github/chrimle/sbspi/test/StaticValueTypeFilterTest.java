@@ -0,0 +1,146 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueTypeFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+/**
+ * Class for testing {@link StaticValueTypeFilter} only matches classes with fields annotated with
+ * {@code StaticValue}, and that {@link StaticValueInjector} does not load nor initialize any other
+ * class while scanning. Whether a class is loaded is told by a class loader which defines the
+ * holders itself.
+ */
+@SpringBootTest(
+    properties = {"sbspi.index.enabled=false", "test.strings.set-string-without-default=beta"})
+@DisplayName("Testing `StaticValueTypeFilter`")
+class StaticValueTypeFilterTest {
+
+  private static final String UNANNOTATED_FIELDS_HOLDER =
+      "io.github.chrimle.sbspi.test.UnannotatedFieldsHolder";
+
+  private final MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory();
+  private final StaticValueTypeFilter typeFilter = new StaticValueTypeFilter();
+
+  @Test
+  @DisplayName("Testing class with annotated fields is matched")
+  void testClassWithAnnotatedFieldsIsMatched() throws IOException {
+    Assertions.assertTrue(
+        typeFilter.match(
+            metadataReaderFactory.getMetadataReader(StringFieldsHolder.class.getName()),
+            metadataReaderFactory));
+  }
+
+  @Test
+  @DisplayName("Testing class annotated with `@StaticConfigurationProperties` is matched")
+  void testBoundClassIsMatched() throws IOException {
+    Assertions.assertTrue(
+        typeFilter.match(
+            metadataReaderFactory.getMetadataReader(BoundFieldsHolder.class.getName()),
+            metadataReaderFactory));
+  }
+
+  @Test
+  @DisplayName("Testing class without annotated fields is not matched")
+  void testClassWithoutAnnotatedFieldsIsNotMatched() throws IOException {
+    Assertions.assertFalse(
+        typeFilter.match(
+            metadataReaderFactory.getMetadataReader(UNANNOTATED_FIELDS_HOLDER),
+            metadataReaderFactory));
+  }
+
+  @Test
+  @DisplayName("Testing scanning injects fields of matched classes")
+  void testScanningInjectsFieldsOfMatchedClasses() {
+    Assertions.assertEquals("beta", StringFieldsHolder.SET_STRING_WITHOUT_DEFAULT);
+  }
+
+  @Test
+  @DisplayName("Testing scanning does not initialize classes without annotated fields")
+  void testScanningDoesNotInitializeUnmatchedClasses() {
+    Assertions.assertNull(System.getProperty(UnannotatedFieldsHolder.INITIALIZED_PROPERTY));
+  }
+
+  @Test
+  @DisplayName("Testing scanning does not load classes without annotated fields")
+  void testScanningDoesNotLoadUnmatchedClasses() {
+    final HolderDefiningClassLoader classLoader =
+        new HolderDefiningClassLoader(StaticValueTypeFilterTest.class.getClassLoader());
+
+    try (final ConfigurableApplicationContext ignored =
+        new SpringApplicationBuilder(TestSpringBootApplication.class)
+            .resourceLoader(new DefaultResourceLoader(classLoader))
+            .properties("sbspi.index.enabled=false", "test.strings.set-string-without-default=beta")
+            .run()) {
+      Assertions.assertTrue(classLoader.isLoaded(StringFieldsHolder.class.getName()));
+      Assertions.assertFalse(classLoader.isLoaded(UNANNOTATED_FIELDS_HOLDER));
+    }
+  }
+
+  /**
+   * Class loader defining the holders itself, rather than delegating to its parent, in order to
+   * tell whether they have been loaded through it.
+   */
+  private static final class HolderDefiningClassLoader extends ClassLoader {
+
+    private static final Set<String> HOLDERS =
+        Set.of(StringFieldsHolder.class.getName(), UNANNOTATED_FIELDS_HOLDER);
+
+    private HolderDefiningClassLoader(final ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve)
+        throws ClassNotFoundException {
+      if (!HOLDERS.contains(name)) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
+          try (final InputStream inputStream =
+              getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            final byte[] classfile = inputStream.readAllBytes();
+            clazz = defineClass(name, classfile, 0, classfile.length);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+        return clazz;
+      }
+    }
+
+    private boolean isLoaded(final String name) {
+      return findLoadedClass(name) != null;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjector;
+import io.github.chrimle.sbspi.StaticValueInjectorAutoConfiguration;
+import io.github.chrimle.sbspi.StaticValueInjectorException;
+import io.github.chrimle.sbspi.StaticValueValidationReport;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Class for testing {@link StaticValueInjector} reports every invalid field at once, when {@code
+ * sbspi.validation.mode} is {@code AGGREGATE} or {@code DRY_RUN}, and by {@link
+ * StaticValueInjector#validate()}.
+ */
+@SpringBootTest(
+    properties = {
+      "sbspi.validation.mode=DRY_RUN",
+      "sbspi.include-patterns=.*ValidatedFieldsHolder",
+      "test.validation.name=validated"
+    })
+@DisplayName("Testing `StaticValueInjector` with `sbspi.validation.mode`")
+class StaticValueValidationTest {
+
+  private static final String PROPERTY_SOURCE_NAME = "invalidProperties";
+  private static final Map<String, Object> INVALID_PROPERTIES =
+      Map.of(
+          "test.validation.port", "many",
+          "test.validation.timeout", "soon",
+          "test.validation.ratio", "half");
+
+  @Autowired private StaticValueInjector staticValueInjector;
+  @Autowired private ConfigurableEnvironment environment;
+
+  @AfterEach
+  void restoreProperties() {
+    environment.getPropertySources().remove(PROPERTY_SOURCE_NAME);
+  }
+
+  @Test
+  @DisplayName("Testing fields are not assigned by a dry run")
+  void testFieldsAreNotAssignedByDryRun() {
+    Assertions.assertNull(ValidatedFieldsHolder.NAME);
+  }
+
+  @Test
+  @DisplayName("Testing valid fields are reported as valid")
+  void testValidFieldsAreValid() {
+    final StaticValueValidationReport report = staticValueInjector.validate();
+
+    Assertions.assertTrue(report.isValid());
+    Assertions.assertEquals(4, report.fields());
+    Assertions.assertTrue(report.unresolvedFields().isEmpty());
+    Assertions.assertDoesNotThrow(report::throwIfInvalid);
+  }
+
+  @Test
+  @DisplayName("Testing every invalid field is reported, with its `Reason`")
+  void testEveryInvalidFieldIsReported() {
+    environment
+        .getPropertySources()
+        .addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, INVALID_PROPERTIES));
+
+    final StaticValueValidationReport report = staticValueInjector.validate();
+
+    Assertions.assertFalse(report.isValid());
+    Assertions.assertEquals(
+        Map.of(
+            "PORT", StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNPARSABLE,
+            "TIMEOUT", StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNPARSABLE,
+            "RATIO", StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNRESOLVABLE),
+        report.failures().stream()
+            .collect(
+                Collectors.toMap(
+                    StaticValueInjectorException::getAnnotatedField,
+                    StaticValueInjectorException::getReason)));
+    report
+        .failures()
+        .forEach(
+            failure -> {
+              Assertions.assertEquals(ValidatedFieldsHolder.class, failure.getAnnotatedClass());
+              Assertions.assertNotNull(failure.getAnnotationValue());
+            });
+    final StaticValueInjectorException exception =
+        Assertions.assertThrows(StaticValueInjectorException.class, report::throwIfInvalid);
+    Assertions.assertEquals(
+        StaticValueInjectorException.Reason.MULTIPLE_FAILURES, exception.getReason());
+    Assertions.assertEquals(report.failures(), exception.getFailures());
+  }
+
+  @Test
+  @DisplayName("Testing no field is assigned if any field is invalid, with `AGGREGATE`")
+  void testNoFieldIsAssignedWhenAggregating() {
+    new ApplicationContextRunner()
+        .withInitializer(
+            context ->
+                context
+                    .getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withConfiguration(
+            AutoConfigurations.of(
+                PropertyPlaceholderAutoConfiguration.class,
+                StaticValueInjectorAutoConfiguration.class))
+        .withPropertyValues(
+            "sbspi.basePackage=io.github.chrimle.sbspi.test",
+            "sbspi.include-patterns=.*ValidatedFieldsHolder",
+            "sbspi.validation.mode=AGGREGATE",
+            "test.validation.name=aggregated",
+            "test.validation.port=many",
+            "test.validation.timeout=soon",
+            "test.validation.ratio=half")
+        .withBean(StringBuilder.class)
+        .run(
+            context -> {
+              Throwable failure = context.getStartupFailure();
+              while (failure != null && !(failure instanceof StaticValueInjectorException)) {
+                failure = failure.getCause();
+              }
+              final StaticValueInjectorException exception =
+                  Assertions.assertInstanceOf(StaticValueInjectorException.class, failure);
+              Assertions.assertEquals(
+                  StaticValueInjectorException.Reason.MULTIPLE_FAILURES, exception.getReason());
+              Assertions.assertEquals(3, exception.getFailures().size());
+            });
+    Assertions.assertNotEquals("aggregated", ValidatedFieldsHolder.NAME);
+  }
+
+  @Test
+  @DisplayName("Testing unwritable fields are reported along with every other invalid field")
+  void testUnwritableFieldsAreReported() {
+    new ApplicationContextRunner()
+        .withInitializer(
+            context ->
+                context
+                    .getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withConfiguration(
+            AutoConfigurations.of(
+                PropertyPlaceholderAutoConfiguration.class,
+                StaticValueInjectorAutoConfiguration.class))
+        .withPropertyValues(
+            "sbspi.basePackage=io.github.chrimle.sbspi.test",
+            "sbspi.include-patterns=.*(Validated|Unwritable)FieldsHolder",
+            "sbspi.validation.mode=DRY_RUN",
+            "test.validation.name=validated",
+            "test.validation.port=many")
+        .withBean(StringBuilder.class)
+        .run(
+            context -> {
+              Throwable failure = context.getStartupFailure();
+              while (failure != null && !(failure instanceof StaticValueInjectorException)) {
+                failure = failure.getCause();
+              }
+              final StaticValueInjectorException exception =
+                  Assertions.assertInstanceOf(StaticValueInjectorException.class, failure);
+              Assertions.assertEquals(
+                  StaticValueInjectorException.Reason.MULTIPLE_FAILURES, exception.getReason());
+              Assertions.assertEquals(
+                  Map.of(
+                      "PORT", StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNPARSABLE,
+                      "UNWRITABLE", StaticValueInjectorException.Reason.FIELD_NOT_WRITABLE),
+                  exception.getFailures().stream()
+                      .collect(
+                          Collectors.toMap(
+                              StaticValueInjectorException::getAnnotatedField,
+                              StaticValueInjectorException::getReason)));
+            });
+  }
+}
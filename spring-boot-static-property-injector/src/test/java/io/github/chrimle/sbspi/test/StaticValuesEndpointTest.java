@@ -0,0 +1,116 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjectorMetrics;
+import io.github.chrimle.sbspi.StaticValuesEndpoint;
+import io.github.chrimle.sbspi.StaticValuesEndpoint.StaticValueDescriptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.SanitizingFunction;
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Class for testing {@link StaticValuesEndpoint} lists the fields of {@link ObservedFieldsHolder},
+ * and {@link StaticValueInjectorMetrics} counts the injected fields.
+ */
+@SpringBootTest
+@DisplayName("Testing `StaticValuesEndpoint` and `StaticValueInjectorMetrics`")
+class StaticValuesEndpointTest {
+
+  @Autowired private StaticValuesEndpoint staticValuesEndpoint;
+  @Autowired private StaticValueInjectorMetrics staticValueInjectorMetrics;
+
+  @Test
+  @DisplayName("Testing injected fields are listed")
+  void testInjectedFieldsAreListed() {
+    final StaticValueDescriptor username = find("USERNAME");
+    Assertions.assertEquals("${test.observed.username:admin}", username.expression());
+    Assertions.assertEquals(String.class.getName(), username.type());
+    Assertions.assertEquals("admin", username.value());
+    Assertions.assertTrue(username.resolved());
+  }
+
+  @Test
+  @DisplayName("Testing values are sanitized by `SanitizingFunction` beans")
+  void testValuesAreSanitizedBySanitizingFunctions() {
+    Assertions.assertEquals("internal", ObservedFieldsHolder.INTERNAL);
+    Assertions.assertEquals("******", find("INTERNAL").value());
+  }
+
+  @Test
+  @DisplayName("Testing fields resolved to `null` are listed as resolved")
+  void testNullValuesAreResolved() {
+    Assertions.assertNull(ObservedFieldsHolder.NOTHING);
+    final StaticValueDescriptor nothing = find("NOTHING");
+    Assertions.assertNull(nothing.value());
+    Assertions.assertTrue(nothing.resolved());
+  }
+
+  @Test
+  @DisplayName("Testing values of other types are listed by their type only")
+  void testOtherValuesAreSummarized() {
+    final StaticValueDescriptor object = find("OBJECT");
+    Assertions.assertEquals(Object.class.getName(), object.type());
+    Assertions.assertEquals(Object.class.getName(), object.value());
+  }
+
+  @Test
+  @DisplayName("Testing values of sensitive fields are redacted")
+  void testSensitiveValuesAreRedacted() {
+    Assertions.assertEquals("hunter2", ObservedFieldsHolder.PASSWORD);
+    Assertions.assertEquals("******", find("PASSWORD").value());
+  }
+
+  @Test
+  @DisplayName("Testing injected fields are counted")
+  void testInjectedFieldsAreCounted() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    staticValueInjectorMetrics.bindTo(registry);
+    Assertions.assertTrue(registry.get("sbspi.fields.injected").functionCounter().count() >= 2);
+    Assertions.assertEquals(1, registry.get("sbspi.scan").functionTimer().count());
+  }
+
+  @TestConfiguration
+  static class SanitizingConfiguration {
+
+    @Bean
+    SanitizingFunction internalSanitizingFunction() {
+      return data ->
+          data.getKey().equals("test.observed.internal") ? data.withSanitizedValue() : data;
+    }
+  }
+
+  private StaticValueDescriptor find(final String fieldName) {
+    final List<StaticValueDescriptor> staticValueDescriptors =
+        staticValuesEndpoint.staticValues(SecurityContext.NONE);
+    return staticValueDescriptors.stream()
+        .filter(value -> value.className().equals(ObservedFieldsHolder.class.getName()))
+        .filter(value -> value.fieldName().equals(fieldName))
+        .findFirst()
+        .orElseThrow();
+  }
+}
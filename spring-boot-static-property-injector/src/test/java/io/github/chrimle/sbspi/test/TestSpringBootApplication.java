@@ -21,8 +21,8 @@ import io.github.chrimle.sbspi.StaticValueInjector;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 /**
- * This is a skeleton Spring Boot Application, which will scan and enable {@link
- * StaticValueInjector}.
+ * This is a skeleton Spring Boot Application, which enables {@link StaticValueInjector} through
+ * auto-configuration.
  */
-@SpringBootApplication(scanBasePackageClasses = StaticValueInjector.class)
+@SpringBootApplication
 public class TestSpringBootApplication {}
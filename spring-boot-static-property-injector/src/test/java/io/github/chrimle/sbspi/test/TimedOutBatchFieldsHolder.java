@@ -0,0 +1,31 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/**
+ * This is a class demonstrating how {@code static} fields are set when properties could not be
+ * prefetched in time.
+ */
+public class TimedOutBatchFieldsHolder {
+
+  /** This property is not prefetched in time, and is resolved to its default value. */
+  @StaticValue("${test.batch.timed-out:default}")
+  public static String TIMED_OUT;
+}
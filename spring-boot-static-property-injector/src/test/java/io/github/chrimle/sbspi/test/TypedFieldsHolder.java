@@ -0,0 +1,43 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/** This is a class demonstrating how {@code static} fields of generic and other types are set. */
+public class TypedFieldsHolder {
+
+  /** This property is set. The expected value is {@code [1, 2, 3]}. */
+  @StaticValue("${test.typed.integers}")
+  public static List<Integer> INTEGERS;
+
+  /** This property is unset and has a default. The expected value is 5 seconds. */
+  @StaticValue("${test.typed.unset-duration:5s}")
+  public static Duration DURATION_WITH_DEFAULT;
+
+  /** This expression evaluates to a typed {@link Map}. The expected value is {@code {a=PT1S}}. */
+  @StaticValue("#{ {'a': T(java.time.Duration).ofSeconds(1)} }")
+  public static Map<String, Duration> DURATIONS;
+
+  /** This expression evaluates to an {@code int}. The expected value is {@code 42}. */
+  @StaticValue("#{ 40 + 2 }")
+  public static long SPEL_LONG;
+}
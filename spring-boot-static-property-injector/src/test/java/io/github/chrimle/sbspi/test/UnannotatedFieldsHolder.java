@@ -0,0 +1,37 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/**
+ * This is a class without any fields annotated with {@link StaticValue}. It records whether it has
+ * been initialized, which should never happen while scanning for {@link StaticValue} fields.
+ */
+public class UnannotatedFieldsHolder {
+
+  /** The system property which is set when this class has been initialized. */
+  public static final String INITIALIZED_PROPERTY = "sbspi.test.unannotated-fields-holder";
+
+  static {
+    System.setProperty(INITIALIZED_PROPERTY, "initialized");
+  }
+
+  /** This field is not annotated, and MUST NOT cause this class to be loaded. */
+  public static String UNANNOTATED_STRING = "unannotated";
+}
@@ -0,0 +1,31 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+
+/**
+ * This is a class demonstrating how a {@code final} field annotated with {@link StaticValue} is
+ * reported along with every other invalid field, by {@code sbspi.validation.mode}. It is excluded
+ * by {@code sbspi.exclude-patterns} in every other test, as it can never be injected.
+ */
+public class UnwritableFieldsHolder {
+
+  /** This property cannot be injected, as it is {@code final}. */
+  @StaticValue("${test.validation.unwritable:unwritable}")
+  public static final String UNWRITABLE = String.valueOf("initial");
+}
@@ -0,0 +1,44 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValue;
+import java.time.Duration;
+
+/**
+ * This is a class demonstrating how every invalid {@code static} field is reported at once, by
+ * {@code sbspi.validation.mode}.
+ */
+public class ValidatedFieldsHolder {
+
+  /** This property is only injected when {@code test.validation.name} is set. */
+  @StaticValue("${test.validation.name}")
+  public static String NAME;
+
+  /** This property cannot be injected when {@code test.validation.port} is not a number. */
+  @StaticValue("${test.validation.port:8080}")
+  public static int PORT;
+
+  /** This property cannot be injected when {@code test.validation.timeout} is not a duration. */
+  @StaticValue("${test.validation.timeout:1s}")
+  public static Duration TIMEOUT;
+
+  /** This property cannot be evaluated when {@code test.validation.ratio} is not a number. */
+  @StaticValue("#{T(java.lang.Integer).parseInt(getProperty('test.validation.ratio', '1'))}")
+  public static int RATIO;
+}
@@ -0,0 +1,93 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.agent;
+
+import io.github.chrimle.sbspi.StaticValueClassInitializations;
+import java.lang.instrument.Instrumentation;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Java agent which instruments classes declaring fields annotated with {@link
+ * io.github.chrimle.sbspi.StaticValue}, or bound by {@link
+ * io.github.chrimle.sbspi.StaticConfigurationProperties}, to report themselves to {@link
+ * StaticValueClassInitializations} once initialized. This allows the fields to be injected as their
+ * classes are loaded, instead of scanning the classpath for them.
+ *
+ * <p>The agent is attached with {@code -javaagent:static-property-injector-agent.jar}, optionally
+ * followed by {@code =} and a comma-separated list of the packages which to instrument, e.g. {@code
+ * -javaagent:static-property-injector-agent.jar=your.example.app}. By default, all packages except
+ * those of the JDK are instrumented.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticValueAgent {
+
+  private StaticValueAgent() {}
+
+  /**
+   * Attaches the agent before the {@code main} method of the application is invoked.
+   *
+   * @since 0.2.0
+   * @param agentArgs the comma-separated packages which to instrument, or {@code null}.
+   * @param instrumentation provided by the JVM.
+   */
+  public static void premain(final String agentArgs, final Instrumentation instrumentation) {
+    attach(agentArgs, instrumentation);
+  }
+
+  /**
+   * Attaches the agent to a running JVM. Only classes loaded <i>after</i> the agent was attached
+   * are instrumented, as the static initializers of loaded classes can no longer be changed.
+   * Instead, the loaded classes which would have been instrumented are reported to {@link
+   * StaticValueClassInitializations} right away.
+   *
+   * @since 0.2.0
+   * @param agentArgs the comma-separated packages which to instrument, or {@code null}.
+   * @param instrumentation provided by the JVM.
+   */
+  public static void agentmain(final String agentArgs, final Instrumentation instrumentation) {
+    final StaticValueClassFileTransformer transformer = attach(agentArgs, instrumentation);
+    for (final Class<?> loadedClass : instrumentation.getAllLoadedClasses()) {
+      if (transformer.instruments(loadedClass)) {
+        StaticValueClassInitializations.initialized(loadedClass);
+      }
+    }
+  }
+
+  private static StaticValueClassFileTransformer attach(
+      final String agentArgs, final Instrumentation instrumentation) {
+    final List<String> packages = packagesOf(agentArgs);
+    final StaticValueClassFileTransformer transformer =
+        new StaticValueClassFileTransformer(packages);
+    instrumentation.addTransformer(transformer);
+    StaticValueClassInitializations.agentAttached(packages);
+    return transformer;
+  }
+
+  static List<String> packagesOf(final String agentArgs) {
+    if (agentArgs == null || agentArgs.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(agentArgs.split(","))
+        .map(String::strip)
+        .filter(basePackage -> !basePackage.isEmpty())
+        .toList();
+  }
+}
@@ -0,0 +1,273 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.agent;
+
+import java.lang.annotation.Annotation;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.ProtectionDomain;
+import java.util.List;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * {@link ClassFileTransformer} which appends a call to {@code
+ * StaticValueClassInitializations.initialized(Class)} to every {@code return} of the static
+ * initializer of classes declaring fields annotated with {@code @StaticValue}, or annotated with
+ * {@code @StaticConfigurationProperties}. A static initializer is added to such classes which do
+ * not declare one. All other classes are left untouched.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueClassFileTransformer implements ClassFileTransformer {
+
+  private static final String STATIC_VALUE_DESCRIPTOR = "Lio/github/chrimle/sbspi/StaticValue;";
+  private static final String STATIC_CONFIGURATION_PROPERTIES_DESCRIPTOR =
+      "Lio/github/chrimle/sbspi/StaticConfigurationProperties;";
+  private static final String CLASS_INITIALIZATIONS_INTERNAL_NAME =
+      "io/github/chrimle/sbspi/StaticValueClassInitializations";
+  private static final String CLASS_INITIALIZER = "<clinit>";
+  private static final List<String> EXCLUDED_PREFIXES =
+      List.of("java/", "javax/", "jdk/", "sun/", "com/sun/", "io/github/chrimle/sbspi/agent/");
+
+  private final List<String> includedPrefixes;
+
+  /**
+   * Creates a transformer of the classes in the {@code basePackages}, and their subpackages.
+   *
+   * @param basePackages which to instrument, or an empty list to instrument all packages.
+   */
+  StaticValueClassFileTransformer(final List<String> basePackages) {
+    this.includedPrefixes =
+        basePackages.stream().map(basePackage -> basePackage.replace('.', '/') + '/').toList();
+  }
+
+  @Override
+  public byte[] transform(
+      final ClassLoader loader,
+      final String className,
+      final Class<?> classBeingRedefined,
+      final ProtectionDomain protectionDomain,
+      final byte[] classfileBuffer) {
+    if (className == null || classBeingRedefined != null || !includes(className)) {
+      return null;
+    }
+    try {
+      final ClassReader reader = new ClassReader(classfileBuffer);
+      if (!declaresStaticValues(reader)) {
+        return null;
+      }
+      final ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+      reader.accept(new InitializationReporter(writer, className), 0);
+      return writer.toByteArray();
+    } catch (final RuntimeException e) {
+      // Never prevent a class from being loaded; its fields are simply not injected by the agent
+      return null;
+    }
+  }
+
+  /**
+   * Returns whether the {@code loadedClass}, which was loaded before this transformer was added,
+   * would have been instrumented by it, had it been loaded afterwards.
+   *
+   * @param loadedClass to inspect.
+   * @return {@code true} if the {@code loadedClass} is included, and declares static values.
+   */
+  boolean instruments(final Class<?> loadedClass) {
+    if (loadedClass.isArray()
+        || loadedClass.isPrimitive()
+        || loadedClass.isInterface()
+        || !includes(loadedClass.getName().replace('.', '/'))) {
+      return false;
+    }
+    try {
+      if (isAnnotatedWith(
+          loadedClass.getDeclaredAnnotations(), STATIC_CONFIGURATION_PROPERTIES_DESCRIPTOR)) {
+        return true;
+      }
+      for (final Field field : loadedClass.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers())
+            && isAnnotatedWith(field.getDeclaredAnnotations(), STATIC_VALUE_DESCRIPTOR)) {
+          return true;
+        }
+      }
+      return false;
+    } catch (final LinkageError | RuntimeException e) {
+      // The class cannot be inspected, and is therefore not reported
+      return false;
+    }
+  }
+
+  private static boolean isAnnotatedWith(final Annotation[] annotations, final String descriptor) {
+    for (final Annotation annotation : annotations) {
+      if (Type.getDescriptor(annotation.annotationType()).equals(descriptor)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean includes(final String className) {
+    for (final String excludedPrefix : EXCLUDED_PREFIXES) {
+      if (className.startsWith(excludedPrefix)) {
+        return false;
+      }
+    }
+    if (includedPrefixes.isEmpty()) {
+      return true;
+    }
+    for (final String includedPrefix : includedPrefixes) {
+      if (className.startsWith(includedPrefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean declaresStaticValues(final ClassReader reader) {
+    if ((reader.getAccess() & (Opcodes.ACC_INTERFACE | Opcodes.ACC_MODULE)) != 0) {
+      return false;
+    }
+    final StaticValueDetector detector = new StaticValueDetector();
+    reader.accept(
+        detector, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    return detector.detected && detector.version >= Opcodes.V1_5;
+  }
+
+  /** Detects whether a class declares static values, without visiting any code. */
+  private static final class StaticValueDetector extends ClassVisitor {
+
+    private int version;
+    private boolean detected;
+
+    private StaticValueDetector() {
+      super(Opcodes.ASM9);
+    }
+
+    @Override
+    public void visit(
+        final int version,
+        final int access,
+        final String name,
+        final String signature,
+        final String superName,
+        final String[] interfaces) {
+      this.version = version & 0xFFFF;
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+      if (STATIC_CONFIGURATION_PROPERTIES_DESCRIPTOR.equals(descriptor)) {
+        detected = true;
+      }
+      return null;
+    }
+
+    @Override
+    public FieldVisitor visitField(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final Object value) {
+      if (detected || (access & Opcodes.ACC_STATIC) == 0) {
+        return null;
+      }
+      return new FieldVisitor(Opcodes.ASM9) {
+        @Override
+        public AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+          if (STATIC_VALUE_DESCRIPTOR.equals(descriptor)) {
+            detected = true;
+          }
+          return null;
+        }
+      };
+    }
+  }
+
+  /**
+   * Reports the class once its static initializer returns, adding a static initializer if there is
+   * none.
+   */
+  private static final class InitializationReporter extends ClassVisitor {
+
+    private final String className;
+    private boolean hasClassInitializer;
+
+    private InitializationReporter(final ClassVisitor classVisitor, final String className) {
+      super(Opcodes.ASM9, classVisitor);
+      this.className = className;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final String[] exceptions) {
+      final MethodVisitor methodVisitor =
+          super.visitMethod(access, name, descriptor, signature, exceptions);
+      if (!CLASS_INITIALIZER.equals(name)) {
+        return methodVisitor;
+      }
+      hasClassInitializer = true;
+      return new MethodVisitor(Opcodes.ASM9, methodVisitor) {
+        @Override
+        public void visitInsn(final int opcode) {
+          if (opcode == Opcodes.RETURN) {
+            report(mv);
+          }
+          super.visitInsn(opcode);
+        }
+      };
+    }
+
+    @Override
+    public void visitEnd() {
+      if (!hasClassInitializer) {
+        final MethodVisitor methodVisitor =
+            super.visitMethod(Opcodes.ACC_STATIC, CLASS_INITIALIZER, "()V", null, null);
+        methodVisitor.visitCode();
+        report(methodVisitor);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+      }
+      super.visitEnd();
+    }
+
+    private void report(final MethodVisitor methodVisitor) {
+      methodVisitor.visitLdcInsn(Type.getObjectType(className));
+      methodVisitor.visitMethodInsn(
+          Opcodes.INVOKESTATIC,
+          CLASS_INITIALIZATIONS_INTERNAL_NAME,
+          "initialized",
+          "(Ljava/lang/Class;)V",
+          false);
+    }
+  }
+}
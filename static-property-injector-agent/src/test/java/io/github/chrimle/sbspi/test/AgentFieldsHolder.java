@@ -0,0 +1,60 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticConfigurationProperties;
+import io.github.chrimle.sbspi.StaticValue;
+
+/** This is a class demonstrating which classes are instrumented by the static value agent. */
+public class AgentFieldsHolder {
+
+  /** This property is initialized by the static initializer, which is instrumented. */
+  @StaticValue("${agent.name:agent}")
+  public static String NAME = "initial";
+
+  /** This class has no static initializer, so one is added by the agent. */
+  @StaticConfigurationProperties(prefix = "agent.bound")
+  public static class Bound {
+
+    /** This property is bound to {@code agent.bound.max-connections}. */
+    public static int MAX_CONNECTIONS;
+  }
+
+  /** This class is initialized concurrently with {@link Second}, whose initializer it overlaps. */
+  public static class First {
+
+    /** This property is initialized by the static initializer, which is instrumented. */
+    @StaticValue("${agent.first:first}")
+    public static String NAME = AgentInitializationBarrier.await("first");
+  }
+
+  /** This class is initialized concurrently with {@link First}, whose initializer it overlaps. */
+  public static class Second {
+
+    /** This property is initialized by the static initializer, which is instrumented. */
+    @StaticValue("${agent.second:second}")
+    public static String NAME = AgentInitializationBarrier.await("second");
+  }
+
+  /** This class declares no static values, and is not instrumented. */
+  public static class Unannotated {
+
+    /** This property is not injected. */
+    public static String NAME = "unannotated";
+  }
+}
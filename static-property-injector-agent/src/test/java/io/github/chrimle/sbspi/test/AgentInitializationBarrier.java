@@ -0,0 +1,52 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Barrier making the static initializers of {@link AgentFieldsHolder.First} and {@link
+ * AgentFieldsHolder.Second} overlap. Not instrumented, and therefore shared by all class loaders
+ * defining the holders.
+ */
+public final class AgentInitializationBarrier {
+
+  private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+  private AgentInitializationBarrier() {}
+
+  /**
+   * Waits until both static initializers have reached the barrier.
+   *
+   * @param value to return.
+   * @return the {@code value}.
+   */
+  public static String await(final String value) {
+    try {
+      BARRIER.await(10, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final BrokenBarrierException | TimeoutException e) {
+      // Initialized without the other holder, e.g. when injecting it
+    }
+    return value;
+  }
+}
@@ -0,0 +1,357 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueClassInitializations;
+import io.github.chrimle.sbspi.agent.StaticValueAgent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.IllegalClassFormatException;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class for testing {@link StaticValueAgent} instruments the static initializers of classes
+ * declaring static values, to report them to {@link StaticValueClassInitializations}.
+ */
+@DisplayName("Testing `StaticValueAgent`")
+class StaticValueAgentTest {
+
+  private static ClassFileTransformer transformer;
+
+  private final ClassLoader loader = loader();
+  private final List<Class<?>> initializedClasses = new CopyOnWriteArrayList<>();
+  // Classes initialized by other tests remain reported, and are therefore ignored
+  private final Consumer<Class<?>> classInjector =
+      clazz -> {
+        if (clazz.getClassLoader() == loader) {
+          initializedClasses.add(clazz);
+        }
+      };
+
+  @BeforeAll
+  static void attachAgent() {
+    StaticValueAgent.premain(AgentFieldsHolder.class.getPackageName(), instrumentation());
+  }
+
+  @AfterEach
+  void withdrawClassInjector() {
+    StaticValueClassInitializations.withdraw(classInjector);
+  }
+
+  @Test
+  @DisplayName("Testing the agent is marked as attached")
+  void testAgentIsAttached() {
+    Assertions.assertTrue(StaticValueClassInitializations.isAgentAttached());
+    Assertions.assertNotNull(transformer);
+  }
+
+  @Test
+  @DisplayName("Testing classes are reported once their static initializer returns")
+  void testClassesAreReportedWhenInitialized() throws Exception {
+    StaticValueClassInitializations.publish(classInjector);
+    final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+
+    Assertions.assertEquals(List.of(holder), initializedClasses);
+    Assertions.assertEquals("initial", holder.getField("NAME").get(null));
+  }
+
+  @Test
+  @DisplayName("Testing fields are injected by the initializing thread, before the class is used")
+  void testFieldsAreInjectedBeforeFirstUse() throws Exception {
+    final List<Thread> injectingThreads = new CopyOnWriteArrayList<>();
+    final Consumer<Class<?>> fieldInjector =
+        clazz -> {
+          if (clazz.getClassLoader() == loader) {
+            injectingThreads.add(Thread.currentThread());
+            try {
+              clazz.getField("NAME").set(null, "injected");
+            } catch (final ReflectiveOperationException e) {
+              throw new IllegalStateException(e);
+            }
+          }
+        };
+    StaticValueClassInitializations.publish(fieldInjector);
+    try {
+      final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+
+      Assertions.assertEquals("injected", holder.getField("NAME").get(null));
+      Assertions.assertEquals(List.of(Thread.currentThread()), injectingThreads);
+    } finally {
+      StaticValueClassInitializations.withdraw(fieldInjector);
+    }
+  }
+
+  @Test
+  @DisplayName("Testing a static initializer is added to classes without one")
+  void testStaticInitializerIsAdded() throws Exception {
+    StaticValueClassInitializations.publish(classInjector);
+    final Class<?> bound = Class.forName(AgentFieldsHolder.Bound.class.getName(), true, loader);
+
+    Assertions.assertEquals(List.of(bound), initializedClasses);
+  }
+
+  @Test
+  @DisplayName("Testing classes initialized before publishing are passed when published")
+  void testClassesAreQueuedUntilPublished() throws Exception {
+    final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+    Assertions.assertTrue(initializedClasses.isEmpty());
+
+    StaticValueClassInitializations.publish(classInjector);
+    Assertions.assertEquals(List.of(holder), initializedClasses);
+  }
+
+  @Test
+  @DisplayName("Testing every published class injector is passed every class, exactly once")
+  void testClassInjectorsCoexist() throws Exception {
+    final List<Class<?>> otherInitializedClasses = new CopyOnWriteArrayList<>();
+    final Consumer<Class<?>> otherClassInjector =
+        clazz -> {
+          if (clazz.getClassLoader() == loader) {
+            otherInitializedClasses.add(clazz);
+          }
+        };
+    StaticValueClassInitializations.publish(classInjector);
+    final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+    StaticValueClassInitializations.publish(otherClassInjector);
+    StaticValueClassInitializations.publish(classInjector);
+    try {
+      final Class<?> bound = Class.forName(AgentFieldsHolder.Bound.class.getName(), true, loader);
+
+      Assertions.assertEquals(List.of(holder, bound), initializedClasses);
+      Assertions.assertEquals(List.of(holder, bound), otherInitializedClasses);
+    } finally {
+      StaticValueClassInitializations.withdraw(otherClassInjector);
+    }
+  }
+
+  @Test
+  @DisplayName("Testing withdrawn class injectors are no longer passed initialized classes")
+  void testWithdrawnClassInjectorsAreNotPassedClasses() throws Exception {
+    StaticValueClassInitializations.publish(classInjector);
+    final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+    StaticValueClassInitializations.withdraw(classInjector);
+    Class.forName(AgentFieldsHolder.Bound.class.getName(), true, loader);
+
+    Assertions.assertEquals(List.of(holder), initializedClasses);
+  }
+
+  @Test
+  @DisplayName(
+      "Testing classes initialized concurrently are injected by their initializing threads")
+  void testConcurrentlyInitializedClassesAreInjected() throws Exception {
+    final String first = AgentFieldsHolder.First.class.getName();
+    final String second = AgentFieldsHolder.Second.class.getName();
+    final Map<Class<?>, Thread> injectingThreads = new ConcurrentHashMap<>();
+    final Consumer<Class<?>> threadRecordingClassInjector =
+        clazz -> {
+          if (clazz.getClassLoader() == loader) {
+            injectingThreads.put(clazz, Thread.currentThread());
+          }
+        };
+    StaticValueClassInitializations.publish(threadRecordingClassInjector);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final Map<String, Future<Thread>> initializations = new HashMap<>();
+      for (final String className : List.of(first, second)) {
+        initializations.put(
+            className,
+            executor.submit(
+                () -> {
+                  start.await();
+                  Class.forName(className, true, loader);
+                  return Thread.currentThread();
+                }));
+      }
+      start.countDown();
+      final Map<Class<?>, Thread> initializingThreads = new HashMap<>();
+      for (final Map.Entry<String, Future<Thread>> initialization : initializations.entrySet()) {
+        initializingThreads.put(
+            Class.forName(initialization.getKey(), false, loader),
+            initialization.getValue().get(10, TimeUnit.SECONDS));
+      }
+
+      Assertions.assertEquals(initializingThreads, injectingThreads);
+    } finally {
+      executor.shutdownNow();
+      StaticValueClassInitializations.withdraw(threadRecordingClassInjector);
+    }
+  }
+
+  @Test
+  @DisplayName("Testing failures of the class injector do not fail the initialization of classes")
+  void testClassInjectorFailuresDoNotFailInitialization() throws Exception {
+    final Consumer<Class<?>> failingClassInjector =
+        clazz -> {
+          if (clazz.getClassLoader() == loader) {
+            initializedClasses.add(clazz);
+            throw new IllegalStateException("Injection failed");
+          }
+        };
+    StaticValueClassInitializations.publish(failingClassInjector);
+    try {
+      final Class<?> holder = Class.forName(AgentFieldsHolder.class.getName(), true, loader);
+      Assertions.assertEquals("initial", holder.getField("NAME").get(null));
+      final Class<?> bound = Class.forName(AgentFieldsHolder.Bound.class.getName(), true, loader);
+
+      Assertions.assertEquals(List.of(holder, bound), initializedClasses);
+    } finally {
+      StaticValueClassInitializations.withdraw(failingClassInjector);
+    }
+  }
+
+  @Test
+  @DisplayName("Testing classes loaded before the agent was attached dynamically are reported")
+  void testLoadedClassesAreReportedWhenAttachedDynamically() throws Exception {
+    final ClassLoader untransformingLoader = untransformingLoader();
+    final Class<?> holder =
+        Class.forName(AgentFieldsHolder.class.getName(), true, untransformingLoader);
+    final Class<?> unannotated =
+        Class.forName(AgentFieldsHolder.Unannotated.class.getName(), true, untransformingLoader);
+    final List<Class<?>> reportedClasses = new CopyOnWriteArrayList<>();
+    final Consumer<Class<?>> untransformedClassInjector =
+        clazz -> {
+          if (clazz.getClassLoader() == untransformingLoader) {
+            reportedClasses.add(clazz);
+          }
+        };
+    StaticValueClassInitializations.publish(untransformedClassInjector);
+    try {
+      Assertions.assertTrue(reportedClasses.isEmpty());
+
+      StaticValueAgent.agentmain(
+          AgentFieldsHolder.class.getPackageName(),
+          instrumentation(holder, unannotated, String.class, int[].class));
+      Assertions.assertEquals(List.of(holder), reportedClasses);
+    } finally {
+      StaticValueClassInitializations.withdraw(untransformedClassInjector);
+    }
+  }
+
+  @Test
+  @DisplayName("Testing classes without static values are not instrumented")
+  void testUnannotatedClassesAreNotInstrumented() throws Exception {
+    Assertions.assertNull(transform(AgentFieldsHolder.Unannotated.class.getName()));
+  }
+
+  @Test
+  @DisplayName("Testing classes outside of the instrumented packages are not instrumented")
+  void testClassesOutsidePackagesAreNotInstrumented() throws Exception {
+    Assertions.assertNull(
+        transformer.transform(
+            null,
+            "io/github/chrimle/other/AgentFieldsHolder",
+            null,
+            null,
+            classfileOf(AgentFieldsHolder.class.getName())));
+  }
+
+  /**
+   * Returns an {@link Instrumentation} capturing the transformer added by the agent, and reporting
+   * the {@code loadedClasses} as loaded.
+   */
+  private static Instrumentation instrumentation(final Class<?>... loadedClasses) {
+    return (Instrumentation)
+        Proxy.newProxyInstance(
+            Instrumentation.class.getClassLoader(),
+            new Class<?>[] {Instrumentation.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "addTransformer" -> {
+                    transformer = (ClassFileTransformer) args[0];
+                    yield null;
+                  }
+                  case "getAllLoadedClasses" -> loadedClasses;
+                  default -> null;
+                });
+  }
+
+  private static byte[] transform(final String className) throws IllegalClassFormatException {
+    return transformer.transform(
+        null, className.replace('.', '/'), null, null, classfileOf(className));
+  }
+
+  private static byte[] classfileOf(final String className) {
+    try (final InputStream inputStream =
+        StaticValueAgentTest.class
+            .getClassLoader()
+            .getResourceAsStream(className.replace('.', '/') + ".class")) {
+      return inputStream.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns a new class loader, defining {@link AgentFieldsHolder} as transformed by the agent. */
+  private static ClassLoader loader() {
+    return loader(true);
+  }
+
+  /**
+   * Returns a new class loader, defining {@link AgentFieldsHolder} as loaded before the agent was
+   * attached.
+   */
+  private static ClassLoader untransformingLoader() {
+    return loader(false);
+  }
+
+  private static ClassLoader loader(final boolean transforming) {
+    return new ClassLoader(StaticValueAgentTest.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String name, final boolean resolve)
+          throws ClassNotFoundException {
+        if (!name.startsWith(AgentFieldsHolder.class.getName())) {
+          return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> clazz = findLoadedClass(name);
+          if (clazz == null) {
+            final byte[] classfile;
+            try {
+              classfile = transforming ? transform(name) : null;
+            } catch (final IllegalClassFormatException e) {
+              throw new ClassNotFoundException(name, e);
+            }
+            final byte[] definedClassfile = classfile != null ? classfile : classfileOf(name);
+            clazz = defineClass(name, definedClassfile, 0, definedClassfile.length);
+          }
+          return clazz;
+        }
+      }
+    };
+  }
+}
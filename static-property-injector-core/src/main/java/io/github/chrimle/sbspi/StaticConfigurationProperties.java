@@ -0,0 +1,68 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Similar to Spring Boot's {@code ConfigurationProperties}-annotation, this annotation can be
+ * applied to classes with {@code static} fields. Every {@code static}, non-{@code final}, field of
+ * the class is bound to the property named by the {@link #prefix()} and the name of the field,
+ * using Spring Boot's relaxed binding. Fields may be of any type supported by Spring Boot's {@code
+ * Binder}, including nested types, lists and maps.
+ *
+ * <p>Field names are mapped to the dashed form of property names; {@code MAX_CONNECTIONS} and
+ * {@code maxConnections} are both bound to {@code <prefix>.max-connections}. Fields which are
+ * annotated with {@link StaticValue} are injected as such, and are not bound.
+ *
+ * <p>Example
+ *
+ * <pre>{@code
+ * @StaticConfigurationProperties(prefix = "app.limits")
+ * public class Limits {
+ *
+ *   // Bound to app.limits.max-connections
+ *   public static int MAX_CONNECTIONS;
+ *
+ *   // Bound to app.limits.hosts[0], app.limits.hosts[1], ...
+ *   public static List<String> HOSTS;
+ * }
+ * }</pre>
+ *
+ * <p>Note that actual processing of the {@code StaticConfigurationProperties} annotation is
+ * performed by {@code StaticValueInjector} in Spring applications, or by {@link StaticValues}
+ * without Spring.
+ *
+ * @see "org.springframework.boot.context.properties.ConfigurationProperties"
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StaticConfigurationProperties {
+  /**
+   * The prefix of the properties to bind, such as {@code app.limits}.
+   *
+   * @return the prefix of the properties.
+   * @since 0.2.0
+   */
+  String prefix();
+}
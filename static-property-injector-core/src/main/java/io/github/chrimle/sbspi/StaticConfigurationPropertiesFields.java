@@ -0,0 +1,101 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+
+/**
+ * Utilities for fields which are bound by {@link StaticConfigurationProperties}, rather than
+ * annotated with {@link StaticValue}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticConfigurationPropertiesFields {
+
+  private StaticConfigurationPropertiesFields() {}
+
+  /**
+   * Returns whether the {@code field} is injected by {@code StaticValueInjector} or {@link
+   * StaticValues}; either annotated with {@link StaticValue}, or bound by {@link
+   * StaticConfigurationProperties}.
+   *
+   * @param field to check.
+   * @return {@code true} if the {@code field} is injected, otherwise {@code false}.
+   */
+  static boolean isInjectable(final Field field) {
+    return field.isAnnotationPresent(StaticValue.class) || isBound(field);
+  }
+
+  /**
+   * Returns whether the {@code field} is bound by the {@link StaticConfigurationProperties} of its
+   * declaring class. Fields annotated with {@link StaticValue} are not bound.
+   *
+   * @param field to check.
+   * @return {@code true} if the {@code field} is bound, otherwise {@code false}.
+   */
+  static boolean isBound(final Field field) {
+    final int modifiers = field.getModifiers();
+    return field.getDeclaringClass().isAnnotationPresent(StaticConfigurationProperties.class)
+        && Modifier.isStatic(modifiers)
+        && !Modifier.isFinal(modifiers)
+        && !field.isSynthetic()
+        && !field.isAnnotationPresent(StaticValue.class);
+  }
+
+  /**
+   * Returns the name of the property which the {@code field} is bound to. {@code UPPER_SNAKE_CASE}
+   * and {@code camelCase} field names are both mapped to the dashed form.
+   *
+   * @param field which is {@linkplain #isBound(Field) bound}.
+   * @return the name of the property.
+   */
+  static String propertyName(final Field field) {
+    final String prefix =
+        field.getDeclaringClass().getAnnotation(StaticConfigurationProperties.class).prefix();
+    final String name = field.getName();
+    final String dashedName =
+        name.equals(name.toUpperCase(Locale.ROOT))
+            ? name.toLowerCase(Locale.ROOT).replace('_', '-')
+            : toDashedForm(name);
+    return prefix.isEmpty() ? dashedName : prefix + "." + dashedName;
+  }
+
+  /**
+   * Returns the dashed form of a {@code camelCase} name, the same as Spring Boot's {@code
+   * DataObjectPropertyName}.
+   *
+   * @param name to convert.
+   * @return the dashed form of the {@code name}.
+   */
+  private static String toDashedForm(final String name) {
+    final StringBuilder dashedName = new StringBuilder(name.length() + 4);
+    for (int i = 0; i < name.length(); i++) {
+      final char c = name.charAt(i) == '_' ? '-' : name.charAt(i);
+      if (Character.isUpperCase(c)
+          && !dashedName.isEmpty()
+          && dashedName.charAt(dashedName.length() - 1) != '-') {
+        dashedName.append('-');
+      }
+      dashedName.append(Character.toLowerCase(c));
+    }
+    return dashedName.toString();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * The memory semantics with which a {@link StaticFieldWriter} writes to a {@code static} field.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+enum StaticFieldMemorySemantics {
+  /** Writes with plain memory semantics, as if the field was assigned directly. */
+  PLAIN,
+  /** Writes with release memory semantics, as by {@link VarHandle#setRelease(Object...)}. */
+  RELEASE,
+  /** Writes with volatile memory semantics, as by {@link VarHandle#setVolatile(Object...)}. */
+  VOLATILE
+}
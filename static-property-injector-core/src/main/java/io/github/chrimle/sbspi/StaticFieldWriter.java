@@ -0,0 +1,157 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+
+/**
+ * Writes values to a single {@code static} field. A writer is resolved once per field, and reused
+ * on every injection.
+ *
+ * <p>Writers are backed by a {@link VarHandle}, with dedicated paths for {@code int}, {@code long},
+ * {@code double} and {@code boolean} fields which do not go through a generic, boxed, signature.
+ * Fields which cannot be accessed by a {@link VarHandle} fall back to reflection.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@FunctionalInterface
+interface StaticFieldWriter {
+
+  /**
+   * Writes the {@code value} to the field.
+   *
+   * @param value to write, which MUST be assignable to the type of the field.
+   * @throws StaticValueInjectorException if the {@code value} is {@code null} and the field is
+   *     primitive.
+   */
+  void write(Object value);
+
+  /**
+   * Resolves a writer for the {@code field}.
+   *
+   * @param field to write to.
+   * @param semantics of the writes.
+   * @return the writer of the {@code field}.
+   * @throws StaticValueInjectorException if the {@code field} is not a writable {@code static}
+   *     field.
+   */
+  static StaticFieldWriter of(final Field field, final StaticFieldMemorySemantics semantics) {
+    final int modifiers = field.getModifiers();
+    if (!Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+      throw StaticValueInjectorException.unwritableField(field, null);
+    }
+    final StaticFieldWriter writer = writerOf(field, semantics);
+    if (!field.getType().isPrimitive()) {
+      return writer;
+    }
+    return value -> {
+      if (value == null) {
+        throw StaticValueInjectorException.nullPrimitiveValue(field);
+      }
+      writer.write(value);
+    };
+  }
+
+  private static StaticFieldWriter writerOf(
+      final Field field, final StaticFieldMemorySemantics semantics) {
+    final VarHandle handle;
+    try {
+      handle =
+          MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+              .unreflectVarHandle(field);
+    } catch (IllegalAccessException e) {
+      return reflective(field);
+    }
+    final Class<?> type = field.getType();
+    if (type == int.class) {
+      return intWriter(handle, semantics);
+    } else if (type == long.class) {
+      return longWriter(handle, semantics);
+    } else if (type == double.class) {
+      return doubleWriter(handle, semantics);
+    } else if (type == boolean.class) {
+      return booleanWriter(handle, semantics);
+    }
+    return objectWriter(handle, semantics);
+  }
+
+  private static StaticFieldWriter intWriter(
+      final VarHandle handle, final StaticFieldMemorySemantics semantics) {
+    return switch (semantics) {
+      case PLAIN -> value -> handle.set((int) value);
+      case RELEASE -> value -> handle.setRelease((int) value);
+      case VOLATILE -> value -> handle.setVolatile((int) value);
+    };
+  }
+
+  private static StaticFieldWriter longWriter(
+      final VarHandle handle, final StaticFieldMemorySemantics semantics) {
+    return switch (semantics) {
+      case PLAIN -> value -> handle.set((long) value);
+      case RELEASE -> value -> handle.setRelease((long) value);
+      case VOLATILE -> value -> handle.setVolatile((long) value);
+    };
+  }
+
+  private static StaticFieldWriter doubleWriter(
+      final VarHandle handle, final StaticFieldMemorySemantics semantics) {
+    return switch (semantics) {
+      case PLAIN -> value -> handle.set((double) value);
+      case RELEASE -> value -> handle.setRelease((double) value);
+      case VOLATILE -> value -> handle.setVolatile((double) value);
+    };
+  }
+
+  private static StaticFieldWriter booleanWriter(
+      final VarHandle handle, final StaticFieldMemorySemantics semantics) {
+    return switch (semantics) {
+      case PLAIN -> value -> handle.set((boolean) value);
+      case RELEASE -> value -> handle.setRelease((boolean) value);
+      case VOLATILE -> value -> handle.setVolatile((boolean) value);
+    };
+  }
+
+  private static StaticFieldWriter objectWriter(
+      final VarHandle handle, final StaticFieldMemorySemantics semantics) {
+    return switch (semantics) {
+      case PLAIN -> value -> handle.set(value);
+      case RELEASE -> value -> handle.setRelease(value);
+      case VOLATILE -> value -> handle.setVolatile(value);
+    };
+  }
+
+  private static StaticFieldWriter reflective(final Field field) {
+    try {
+      field.setAccessible(true);
+    } catch (InaccessibleObjectException | SecurityException e) {
+      throw StaticValueInjectorException.unwritableField(field, e);
+    }
+    return value -> {
+      try {
+        field.set(null, value);
+      } catch (IllegalAccessException e) {
+        throw StaticValueInjectorException.unwritableField(field, e);
+      }
+    };
+  }
+}
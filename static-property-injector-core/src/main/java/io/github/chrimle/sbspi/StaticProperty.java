@@ -0,0 +1,117 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.function.Supplier;
+
+/**
+ * Holder of a lazily resolved value of a {@code static} field annotated with {@link StaticValue}.
+ * Instead of resolving the value at startup, {@code StaticValueInjector} (or {@link StaticValues})
+ * assigns a holder to the field, which resolves and converts the value the first time {@link
+ * #get()} is invoked.
+ *
+ * <p>Once resolved, the value is cached, and subsequent invocations of {@link #get()} are a single
+ * volatile read, without any locking. When the properties referenced by the field change, the
+ * holder is {@linkplain #refresh() refreshed} instead of the field being re-assigned.
+ *
+ * <p>Example
+ *
+ * <pre>{@code
+ * public class Example {
+ *
+ *   // Resolved on the first invocation of TIMEOUT.get()
+ *   @StaticValue("#{@timeouts.compute()}")
+ *   public static StaticProperty<Duration> TIMEOUT;
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the value.
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticProperty<T> implements Supplier<T> {
+
+  private static final Object UNRESOLVED = new Object();
+
+  private final Supplier<T> resolver;
+  private volatile Object value = UNRESOLVED;
+
+  /**
+   * Creates a new holder, which has not yet been resolved.
+   *
+   * @param resolver resolving and converting the value.
+   */
+  StaticProperty(final Supplier<T> resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * Returns the value, resolving it if it has not been resolved since the creation of <i>this</i>
+   * holder, or since the last {@link #refresh()}.
+   *
+   * @return the value, or {@code null} if it could not be resolved.
+   * @since 0.2.0
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get() {
+    final Object current = value;
+    if (current != UNRESOLVED) {
+      return (T) current;
+    }
+    return resolve();
+  }
+
+  /**
+   * Returns whether the value has been resolved.
+   *
+   * @return {@code true} if the value has been resolved, otherwise {@code false}.
+   * @since 0.2.0
+   */
+  public boolean isResolved() {
+    return value != UNRESOLVED;
+  }
+
+  /**
+   * Discards the resolved value, meaning that it is resolved again on the next invocation of {@link
+   * #get()}. If the value is being resolved concurrently, this waits for it to be resolved, so that
+   * the value resolved before the refresh is never published after it.
+   *
+   * @since 0.2.0
+   */
+  public synchronized void refresh() {
+    value = UNRESOLVED;
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized T resolve() {
+    final Object current = value;
+    if (current != UNRESOLVED) {
+      return (T) current;
+    }
+    final T resolved = resolver.get();
+    value = resolved;
+    return resolved;
+  }
+
+  @Override
+  public String toString() {
+    final Object current = value;
+    return "StaticProperty[" + (current == UNRESOLVED ? "<unresolved>" : current) + "]";
+  }
+}
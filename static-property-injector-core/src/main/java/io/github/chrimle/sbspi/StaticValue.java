@@ -45,10 +45,10 @@ import java.lang.annotation.Target;
  * }
  * }</pre>
  *
- * <p>Note that actual processing of the {@code StaticValue} annotation is performed by {@link
- * StaticValueInjector}.
+ * <p>Note that actual processing of the {@code StaticValue} annotation is performed by {@code
+ * StaticValueInjector} in Spring applications, or by {@link StaticValues} without Spring.
  *
- * @see org.springframework.beans.factory.annotation.Value
+ * @see "org.springframework.beans.factory.annotation.Value"
  * @author Chrimle
  * @since 0.1.0
  */
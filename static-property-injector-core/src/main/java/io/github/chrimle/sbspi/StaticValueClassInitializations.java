@@ -0,0 +1,177 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registry of classes declaring fields annotated with {@link StaticValue}, or bound by {@link
+ * StaticConfigurationProperties}, which have been initialized. Classes are reported by the
+ * <em>static value agent</em> ({@code static-property-injector-agent}), which instruments the end
+ * of their static initializers to invoke {@link #initialized(Class)}.
+ *
+ * <p>Each class is passed to every <em>class injector</em> published by {@link #publish(Consumer)},
+ * e.g. by each {@code StaticValueInjector} once its application context is ready. Classes
+ * initialized before a class injector is published are passed to it by the publishing thread.
+ * Classes initialized afterwards are passed to it by the initializing thread, once their static
+ * initializer has assigned the initial values of the fields, but before the class may be used by
+ * any other thread. The fields are therefore never observed with their initial values.
+ *
+ * <p>Class injectors are invoked while the initializing thread holds the initialization lock of the
+ * class, and must therefore not hold any lock of their own which another thread may hold while
+ * initializing a class. Any exception thrown by a class injector is logged, and never fails the
+ * initialization of the class.
+ *
+ * <p><strong>API Note:</strong> Initialized classes are weakly referenced, and do not prevent their
+ * class loaders from being garbage collected.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticValueClassInitializations {
+
+  private static final System.Logger LOGGER =
+      System.getLogger(StaticValueClassInitializations.class.getName());
+
+  private static final Set<Class<?>> INITIALIZED = Collections.newSetFromMap(new WeakHashMap<>());
+  private static final List<Consumer<Class<?>>> CLASS_INJECTORS = new ArrayList<>();
+  private static volatile boolean agentAttached;
+  private static volatile List<String> instrumentedPackages = List.of();
+
+  private StaticValueClassInitializations() {}
+
+  /**
+   * Reports that the {@code clazz} has been initialized. Invoked at the end of the static
+   * initializer of the {@code clazz}, by instrumented bytecode, which passes the {@code clazz} to
+   * every published class injector. This method never throws.
+   *
+   * @since 0.2.0
+   * @param clazz which has been initialized.
+   */
+  public static void initialized(final Class<?> clazz) {
+    try {
+      final List<Consumer<Class<?>>> classInjectors;
+      synchronized (INITIALIZED) {
+        if (!INITIALIZED.add(clazz)) {
+          return;
+        }
+        classInjectors = List.copyOf(CLASS_INJECTORS);
+      }
+      for (final Consumer<Class<?>> classInjector : classInjectors) {
+        try {
+          classInjector.accept(clazz);
+        } catch (final RuntimeException | Error e) {
+          LOGGER.log(
+              Level.ERROR, () -> "Could not inject the static values of " + clazz.getName(), e);
+        }
+      }
+    } catch (final RuntimeException | Error e) {
+      // Never fail the static initializer; the fields of the class are simply not injected
+    }
+  }
+
+  /**
+   * Publishes the {@code classInjector}, which will be passed every initialized class, starting
+   * with all classes initialized so far. Any previously published class injectors remain published,
+   * and publishing the same class injector again has no effect.
+   *
+   * <p>The classes initialized so far are passed to the {@code classInjector} by the calling
+   * thread, and any exception thrown by it is propagated. Classes initialized afterwards are passed
+   * to it by their initializing thread.
+   *
+   * @since 0.2.0
+   * @param classInjector to inject the fields of initialized classes with.
+   */
+  public static void publish(final Consumer<Class<?>> classInjector) {
+    Objects.requireNonNull(classInjector);
+    final List<Class<?>> initializedClasses;
+    synchronized (INITIALIZED) {
+      if (CLASS_INJECTORS.contains(classInjector)) {
+        return;
+      }
+      CLASS_INJECTORS.add(classInjector);
+      initializedClasses = new ArrayList<>(INITIALIZED);
+    }
+    initializedClasses.forEach(classInjector);
+  }
+
+  /**
+   * Withdraws the {@code classInjector}, if it is currently published. Subsequently initialized
+   * classes are no longer passed to it.
+   *
+   * @since 0.2.0
+   * @param classInjector to withdraw.
+   */
+  public static void withdraw(final Consumer<Class<?>> classInjector) {
+    synchronized (INITIALIZED) {
+      CLASS_INJECTORS.remove(classInjector);
+    }
+  }
+
+  /**
+   * Marks the <em>static value agent</em> as attached. Invoked by the agent when it is started.
+   *
+   * @since 0.2.0
+   * @param instrumentedPackages the packages (including sub-packages) instrumented by the agent, or
+   *     an empty list if all packages are instrumented.
+   */
+  public static void agentAttached(final List<String> instrumentedPackages) {
+    StaticValueClassInitializations.instrumentedPackages = List.copyOf(instrumentedPackages);
+    agentAttached = true;
+  }
+
+  /**
+   * Returns whether the <em>static value agent</em> is attached to <i>this</i> JVM, in which case
+   * classes are reported as they are initialized, and no scanning is required.
+   *
+   * @since 0.2.0
+   * @return {@code true} if the agent is attached, otherwise {@code false}.
+   */
+  public static boolean isAgentAttached() {
+    return agentAttached;
+  }
+
+  /**
+   * Returns whether all classes in the package with the {@code packageName}, and its sub-packages,
+   * are instrumented by the <em>static value agent</em>, and therefore reported when initialized.
+   *
+   * @since 0.2.0
+   * @param packageName the fully qualified name of the package.
+   * @return {@code true} if the agent is attached and instruments the package, otherwise {@code
+   *     false}.
+   */
+  public static boolean isInstrumented(final String packageName) {
+    if (!agentAttached) {
+      return false;
+    }
+    final List<String> packages = instrumentedPackages;
+    return packages.isEmpty()
+        || packages.stream()
+            .anyMatch(
+                instrumentedPackage ->
+                    packageName.equals(instrumentedPackage)
+                        || packageName.startsWith(instrumentedPackage + "."));
+  }
+}
@@ -0,0 +1,170 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Converts resolved property values to the types of fields, for {@link StaticValues}. Supports
+ * strings, primitives and their wrappers, {@link BigDecimal}, {@link BigInteger}, enums, types with
+ * a {@code static valueOf}, {@code of} or {@code parse} factory method (or a constructor) accepting
+ * a single {@link String}, as well as comma-separated arrays, {@link List}s and {@link Set}s of
+ * those.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueConverter {
+
+  private static final List<String> FACTORY_METHODS = List.of("valueOf", "of", "parse");
+
+  private StaticValueConverter() {}
+
+  /**
+   * Converts the {@code value} to the {@code type}.
+   *
+   * @param value to convert.
+   * @param type to convert to, possibly generic.
+   * @return the converted value.
+   * @throws IllegalArgumentException if the {@code value} cannot be converted.
+   */
+  static Object convert(final String value, final Type type) {
+    if (type instanceof Class<?> clazz) {
+      return convert(value, clazz);
+    }
+    if (type instanceof ParameterizedType parameterizedType
+        && parameterizedType.getRawType() instanceof Class<?> rawType) {
+      if (rawType == List.class || rawType == Collection.class || rawType == Set.class) {
+        final Type elementType = parameterizedType.getActualTypeArguments()[0];
+        final List<Object> elements = new ArrayList<>();
+        for (final String element : split(value)) {
+          elements.add(convert(element, elementType));
+        }
+        return rawType == Set.class ? new LinkedHashSet<>(elements) : elements;
+      }
+      return convert(value, rawType);
+    }
+    throw new IllegalArgumentException("Cannot convert to " + type.getTypeName());
+  }
+
+  private static Object convert(final String value, final Class<?> type) {
+    if (type == String.class || type == Object.class || type == CharSequence.class) {
+      return value;
+    }
+    if (type.isArray()) {
+      final List<String> elements = split(value);
+      final Object array = Array.newInstance(type.getComponentType(), elements.size());
+      for (int i = 0; i < elements.size(); i++) {
+        Array.set(array, i, convert(elements.get(i), type.getComponentType()));
+      }
+      return array;
+    }
+    final String trimmed = value.strip();
+    if (type == int.class || type == Integer.class) {
+      return Integer.valueOf(trimmed);
+    } else if (type == long.class || type == Long.class) {
+      return Long.valueOf(trimmed);
+    } else if (type == double.class || type == Double.class) {
+      return Double.valueOf(trimmed);
+    } else if (type == float.class || type == Float.class) {
+      return Float.valueOf(trimmed);
+    } else if (type == short.class || type == Short.class) {
+      return Short.valueOf(trimmed);
+    } else if (type == byte.class || type == Byte.class) {
+      return Byte.valueOf(trimmed);
+    } else if (type == boolean.class || type == Boolean.class) {
+      return toBoolean(trimmed);
+    } else if (type == char.class || type == Character.class) {
+      if (value.length() != 1) {
+        throw new IllegalArgumentException("'" + value + "' is not a single character");
+      }
+      return value.charAt(0);
+    } else if (type == BigDecimal.class) {
+      return new BigDecimal(trimmed);
+    } else if (type == BigInteger.class) {
+      return new BigInteger(trimmed);
+    } else if (type.isEnum()) {
+      for (final Object constant : type.getEnumConstants()) {
+        if (((Enum<?>) constant).name().equals(trimmed)) {
+          return constant;
+        }
+      }
+      throw new IllegalArgumentException("No enum constant " + type.getName() + "." + trimmed);
+    }
+    return instantiate(value, type);
+  }
+
+  private static Boolean toBoolean(final String value) {
+    return switch (value.toLowerCase(Locale.ROOT)) {
+      case "true", "on", "yes", "1" -> Boolean.TRUE;
+      case "false", "off", "no", "0" -> Boolean.FALSE;
+      default -> throw new IllegalArgumentException("'" + value + "' is not a boolean");
+    };
+  }
+
+  private static Object instantiate(final String value, final Class<?> type) {
+    try {
+      for (final String factoryMethod : FACTORY_METHODS) {
+        for (final Class<?> parameterType : List.of(String.class, CharSequence.class)) {
+          final Method method;
+          try {
+            method = type.getMethod(factoryMethod, parameterType);
+          } catch (NoSuchMethodException e) {
+            continue;
+          }
+          if (Modifier.isStatic(method.getModifiers())
+              && type.isAssignableFrom(method.getReturnType())) {
+            return method.invoke(null, value);
+          }
+        }
+      }
+      return type.getConstructor(String.class).newInstance(value);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException("Cannot convert to " + type.getName(), e);
+    } catch (InvocationTargetException e) {
+      throw new IllegalArgumentException(
+          "Cannot convert '" + value + "' to " + type.getName(), e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Cannot convert to " + type.getName(), e);
+    }
+  }
+
+  private static List<String> split(final String value) {
+    if (value.isBlank()) {
+      return List.of();
+    }
+    final List<String> elements = new ArrayList<>();
+    for (final String element : value.split(",", -1)) {
+      elements.add(element.strip());
+    }
+    return elements;
+  }
+}
@@ -0,0 +1,267 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Reads and writes the <em>static value index</em>, which lists every field annotated with {@link
+ * StaticValue} at compile-time. The index is written by {@link StaticValueIndexProcessor} to
+ * {@value #INDEX_LOCATION}, and allows {@code StaticValueInjector} to skip classpath scanning. It
+ * is also the only source of fields for {@link StaticValues}.
+ *
+ * <p>Each line of the index represents one field, as tab-separated columns: the binary class name,
+ * the field name, the field type and the {@link StaticValue#value()}. Lines starting with {@code #}
+ * are comments. Fields bound by {@link StaticConfigurationProperties} are listed with the {@link
+ * StaticConfigurationProperties#prefix()} of their class, instead of the {@link
+ * StaticValue#value()}.
+ *
+ * <p>Each index only covers the classpath root (directory or jar) which contains it. Classes in
+ * roots without an index, e.g. jars built without {@link StaticValueIndexProcessor}, are not
+ * listed, and must be scanned, see {@link #unindexedRoots(ClassLoader, String, Set)}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValueIndex {
+
+  /** The location of the index, relative to the root of the classpath. */
+  static final String INDEX_LOCATION = "META-INF/sbspi/static-values.idx";
+
+  private static final String HEADER = "# sbspi static value index v1";
+  private static final char SEPARATOR = '\t';
+
+  private StaticValueIndex() {}
+
+  /**
+   * A single field in the index.
+   *
+   * @param className the binary name of the declaring class.
+   * @param fieldName the name of the field.
+   * @param type the type of the field.
+   * @param expression the {@link StaticValue#value()} of the field.
+   */
+  record Entry(String className, String fieldName, String type, String expression) {}
+
+  /**
+   * The fields listed by the indexes on the classpath.
+   *
+   * @param fields the indexed fields.
+   * @param roots the URLs of the classpath roots containing an index, e.g. {@code
+   *     file:/app/classes/} or {@code jar:file:/app/lib/library.jar!/}.
+   */
+  record Indexed(List<Field> fields, Set<String> roots) {}
+
+  /**
+   * Loads the fields of all indexes on the classpath of the {@code classLoader}, merging the
+   * indexes of all jars. Only fields declared in classes included by the {@code scope} are
+   * included.
+   *
+   * @param classLoader to load indexes and classes with.
+   * @param scope of classes, by binary name, to include fields from.
+   * @return the indexed fields, and the roots containing an index; without any roots if there is no
+   *     index on the classpath.
+   */
+  static Indexed load(final ClassLoader classLoader, final Predicate<String> scope) {
+    final Map<String, List<Entry>> entriesByRoot = readAll(classLoader);
+    final Set<Field> fields = new LinkedHashSet<>();
+    for (final Entry entry : entriesByRoot.values().stream().flatMap(List::stream).toList()) {
+      if (!scope.test(entry.className())) {
+        continue;
+      }
+      final Class<?> clazz;
+      try {
+        clazz = Class.forName(entry.className(), false, classLoader);
+      } catch (ClassNotFoundException e) {
+        throw StaticValueInjectorException.classNotFound(entry.className(), e);
+      }
+      final Field field;
+      try {
+        field = clazz.getDeclaredField(entry.fieldName());
+      } catch (NoSuchFieldException e) {
+        throw StaticValueInjectorException.indexedFieldNotFound(
+            entry.className(), entry.fieldName(), e);
+      }
+      if (StaticConfigurationPropertiesFields.isInjectable(field)) {
+        fields.add(field);
+      }
+    }
+    return new Indexed(List.copyOf(fields), Set.copyOf(entriesByRoot.keySet()));
+  }
+
+  /**
+   * Returns the classpath roots containing the {@code basePackage}, which are not among the {@code
+   * indexedRoots}. The classes of the {@code basePackage} in these roots are not listed by any
+   * index, and must be scanned instead.
+   *
+   * @param classLoader to locate the {@code basePackage} with.
+   * @param basePackage to locate.
+   * @param indexedRoots the roots containing an index, as by {@link Indexed#roots()}.
+   * @return the URLs of the roots without an index, in the order of the classpath.
+   */
+  static Set<String> unindexedRoots(
+      final ClassLoader classLoader, final String basePackage, final Set<String> indexedRoots) {
+    final String packagePath = basePackage.isEmpty() ? "" : basePackage.replace('.', '/') + '/';
+    final Set<String> roots = new LinkedHashSet<>();
+    for (final URL url : resources(classLoader, packagePath)) {
+      final String root = rootOf(url, packagePath);
+      if (root != null && !indexedRoots.contains(root)) {
+        roots.add(root);
+      }
+    }
+    return roots;
+  }
+
+  /**
+   * Reads the entries of all indexes on the classpath of the {@code classLoader}.
+   *
+   * @param classLoader to load indexes with.
+   * @return the entries of each index, by the URL of the classpath root containing it, or an empty
+   *     map if there is no index on the classpath.
+   */
+  static Map<String, List<Entry>> readAll(final ClassLoader classLoader) {
+    final Map<String, List<Entry>> entriesByRoot = new LinkedHashMap<>();
+    for (final URL url : resources(classLoader, INDEX_LOCATION)) {
+      final List<Entry> entries =
+          entriesByRoot.computeIfAbsent(
+              Objects.requireNonNullElse(rootOf(url, INDEX_LOCATION), url.toExternalForm()),
+              root -> new ArrayList<>());
+      try (final BufferedReader reader =
+          new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank() && !line.startsWith("#")) {
+            entries.add(parse(line));
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read " + url, e);
+      }
+    }
+    return entriesByRoot;
+  }
+
+  private static List<URL> resources(final ClassLoader classLoader, final String name) {
+    final Enumeration<URL> urls;
+    try {
+      urls = classLoader.getResources(name);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not locate " + name, e);
+    }
+    return Collections.list(urls);
+  }
+
+  /**
+   * Returns the URL of the classpath root containing the resource at the {@code url}.
+   *
+   * @param url of the resource.
+   * @param name of the resource, relative to the root of the classpath.
+   * @return the URL of the root, or {@code null} if the {@code url} does not end with the {@code
+   *     name}.
+   */
+  private static String rootOf(final URL url, final String name) {
+    final String externalForm = url.toExternalForm();
+    if (!externalForm.endsWith(name)) {
+      return null;
+    }
+    return externalForm.substring(0, externalForm.length() - name.length());
+  }
+
+  /**
+   * Writes the {@code entries} as an index.
+   *
+   * @param entries to write.
+   * @param writer to write to.
+   * @throws IOException if writing fails.
+   */
+  static void write(final Collection<Entry> entries, final Writer writer) throws IOException {
+    writer.write(HEADER);
+    writer.write('\n');
+    for (final Entry entry : entries) {
+      writer.write(escape(entry.className()));
+      writer.write(SEPARATOR);
+      writer.write(escape(entry.fieldName()));
+      writer.write(SEPARATOR);
+      writer.write(escape(entry.type()));
+      writer.write(SEPARATOR);
+      writer.write(escape(entry.expression()));
+      writer.write('\n');
+    }
+  }
+
+  private static Entry parse(final String line) {
+    final List<String> columns = new ArrayList<>(4);
+    final StringBuilder column = new StringBuilder();
+    for (int i = 0; i < line.length(); i++) {
+      final char c = line.charAt(i);
+      if (c == SEPARATOR) {
+        columns.add(column.toString());
+        column.setLength(0);
+      } else if (c == '\\' && i + 1 < line.length()) {
+        final char escaped = line.charAt(++i);
+        column.append(
+            switch (escaped) {
+              case 't' -> '\t';
+              case 'n' -> '\n';
+              case 'r' -> '\r';
+              default -> escaped;
+            });
+      } else {
+        column.append(c);
+      }
+    }
+    columns.add(column.toString());
+    if (columns.size() != 4) {
+      throw new IllegalStateException("Malformed line in " + INDEX_LOCATION + ": " + line);
+    }
+    return new Entry(columns.get(0), columns.get(1), columns.get(2), columns.get(3));
+  }
+
+  private static String escape(final String column) {
+    final StringBuilder escaped = new StringBuilder(column.length());
+    for (int i = 0; i < column.length(); i++) {
+      final char c = column.charAt(i);
+      switch (c) {
+        case '\\' -> escaped.append("\\\\");
+        case '\t' -> escaped.append("\\t");
+        case '\n' -> escaped.append("\\n");
+        case '\r' -> escaped.append("\\r");
+        default -> escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which finds every field annotated with {@link StaticValue}, or bound by
+ * {@link StaticConfigurationProperties}, at compile-time, and writes them to the <em>static value
+ * index</em> ({@code META-INF/sbspi/static-values.idx}). When the index is present on the
+ * classpath, {@code StaticValueInjector} loads the annotated fields from it instead of scanning the
+ * classpath, and {@link StaticValues} injects the annotated fields listed in it.
+ *
+ * <p>This processor is registered as a service, and is therefore discovered by {@code javac}
+ * whenever this library is on the annotation processor path.
+ *
+ * <p><strong>API Note:</strong> The index only contains the fields of the sources being compiled.
+ * When compiling incrementally, a full rebuild may be required to produce a complete index.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@SupportedAnnotationTypes({
+  "io.github.chrimle.sbspi.StaticValue",
+  "io.github.chrimle.sbspi.StaticConfigurationProperties"
+})
+public class StaticValueIndexProcessor extends AbstractProcessor {
+
+  private final List<StaticValueIndex.Entry> entries = new ArrayList<>();
+
+  /**
+   * Constructor to be invoked by {@code javac}.
+   *
+   * @since 0.2.0
+   */
+  public StaticValueIndexProcessor() {}
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    for (final Element element : roundEnv.getElementsAnnotatedWith(StaticValue.class)) {
+      if (element.getKind() != ElementKind.FIELD
+          || !(element.getEnclosingElement() instanceof TypeElement declaringType)) {
+        continue;
+      }
+      entries.add(
+          new StaticValueIndex.Entry(
+              processingEnv.getElementUtils().getBinaryName(declaringType).toString(),
+              element.getSimpleName().toString(),
+              element.asType().toString(),
+              element.getAnnotation(StaticValue.class).value()));
+    }
+    for (final Element element :
+        roundEnv.getElementsAnnotatedWith(StaticConfigurationProperties.class)) {
+      if (!(element instanceof TypeElement declaringType)) {
+        continue;
+      }
+      final String prefix =
+          declaringType.getAnnotation(StaticConfigurationProperties.class).prefix();
+      for (final Element enclosedElement : declaringType.getEnclosedElements()) {
+        if (enclosedElement.getKind() == ElementKind.FIELD
+            && enclosedElement.getModifiers().contains(Modifier.STATIC)
+            && !enclosedElement.getModifiers().contains(Modifier.FINAL)
+            && enclosedElement.getAnnotation(StaticValue.class) == null) {
+          entries.add(
+              new StaticValueIndex.Entry(
+                  processingEnv.getElementUtils().getBinaryName(declaringType).toString(),
+                  enclosedElement.getSimpleName().toString(),
+                  enclosedElement.asType().toString(),
+                  prefix));
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !entries.isEmpty()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void writeIndex() {
+    try {
+      final FileObject resource =
+          processingEnv
+              .getFiler()
+              .createResource(StandardLocation.CLASS_OUTPUT, "", StaticValueIndex.INDEX_LOCATION);
+      try (final Writer writer = resource.openWriter()) {
+        StaticValueIndex.write(entries, writer);
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Could not write " + StaticValueIndex.INDEX_LOCATION + ": " + e.getMessage());
+    }
+  }
+}
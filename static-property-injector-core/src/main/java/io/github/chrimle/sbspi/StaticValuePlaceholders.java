@@ -0,0 +1,123 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Resolves property placeholders, such as {@code ${my.property:default}}, against a {@link
+ * StaticValuePropertyLookup}, with the same syntax as Spring. Placeholders may be nested in keys,
+ * default values and in the values of other properties.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+final class StaticValuePlaceholders {
+
+  private static final String PREFIX = "${";
+  private static final char SUFFIX = '}';
+  private static final char SEPARATOR = ':';
+
+  private StaticValuePlaceholders() {}
+
+  /**
+   * Resolves all placeholders of the {@code text}.
+   *
+   * @param text to resolve.
+   * @param properties to look up the values of placeholders in.
+   * @return the resolved text, or {@code null} if any placeholder has neither a value nor a default
+   *     value.
+   * @throws IllegalArgumentException if placeholders reference each other circularly.
+   */
+  static String resolve(final String text, final StaticValuePropertyLookup properties) {
+    return resolve(text, properties, new HashSet<>());
+  }
+
+  private static String resolve(
+      final String text, final StaticValuePropertyLookup properties, final Set<String> visiting) {
+    final StringBuilder result = new StringBuilder(text.length());
+    int index = 0;
+    while (index < text.length()) {
+      final int start = text.indexOf(PREFIX, index);
+      final int end = start < 0 ? -1 : findEnd(text, start + PREFIX.length());
+      if (end < 0) {
+        result.append(text, index, text.length());
+        break;
+      }
+      result.append(text, index, start);
+      final String placeholder = text.substring(start + PREFIX.length(), end);
+      final int separator = findSeparator(placeholder);
+      final String key =
+          resolve(
+              separator < 0 ? placeholder : placeholder.substring(0, separator),
+              properties,
+              visiting);
+      if (key == null) {
+        return null;
+      }
+      if (!visiting.add(key)) {
+        throw new IllegalArgumentException("Circular placeholder reference '" + key + "'");
+      }
+      final String value = properties.getProperty(key);
+      final String resolvedValue;
+      if (value != null) {
+        resolvedValue = resolve(value, properties, visiting);
+      } else if (separator >= 0) {
+        resolvedValue = resolve(placeholder.substring(separator + 1), properties, visiting);
+      } else {
+        resolvedValue = null;
+      }
+      visiting.remove(key);
+      if (resolvedValue == null) {
+        return null;
+      }
+      result.append(resolvedValue);
+      index = end + 1;
+    }
+    return result.toString();
+  }
+
+  private static int findEnd(final String text, final int from) {
+    int depth = 1;
+    for (int i = from; i < text.length(); i++) {
+      if (text.startsWith(PREFIX, i)) {
+        depth++;
+        i++;
+      } else if (text.charAt(i) == SUFFIX && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int findSeparator(final String placeholder) {
+    int depth = 0;
+    for (int i = 0; i < placeholder.length(); i++) {
+      if (placeholder.startsWith(PREFIX, i)) {
+        depth++;
+        i++;
+      } else if (placeholder.charAt(i) == SUFFIX) {
+        depth--;
+      } else if (placeholder.charAt(i) == SEPARATOR && depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Looks up the values of properties by their keys, for {@link StaticValues}. This allows fields to
+ * be injected from plain {@link Properties}, {@link Map}s, system properties or environment
+ * variables, without Spring.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+@FunctionalInterface
+public interface StaticValuePropertyLookup {
+
+  /**
+   * Returns the value of the property with the {@code key}.
+   *
+   * @since 0.2.0
+   * @param key of the property.
+   * @return the value of the property, or {@code null} if there is no such property.
+   */
+  String getProperty(String key);
+
+  /**
+   * Returns a lookup which looks up properties in <i>this</i> lookup, and then in the {@code
+   * fallback} for properties which <i>this</i> lookup does not have.
+   *
+   * @since 0.2.0
+   * @param fallback to look up missing properties in.
+   * @return the combined lookup.
+   */
+  default StaticValuePropertyLookup orElse(final StaticValuePropertyLookup fallback) {
+    Objects.requireNonNull(fallback);
+    return key -> {
+      final String value = getProperty(key);
+      return value != null ? value : fallback.getProperty(key);
+    };
+  }
+
+  /**
+   * Returns a lookup of the {@code properties}, including their defaults.
+   *
+   * @since 0.2.0
+   * @param properties to look up.
+   * @return the lookup of the {@code properties}.
+   */
+  static StaticValuePropertyLookup of(final Properties properties) {
+    return properties::getProperty;
+  }
+
+  /**
+   * Returns a lookup of the {@code properties}.
+   *
+   * @since 0.2.0
+   * @param properties to look up.
+   * @return the lookup of the {@code properties}.
+   */
+  static StaticValuePropertyLookup of(final Map<String, String> properties) {
+    return properties::get;
+  }
+
+  /**
+   * Returns a lookup of the system properties.
+   *
+   * @since 0.2.0
+   * @return the lookup of the system properties.
+   */
+  static StaticValuePropertyLookup systemProperties() {
+    return System::getProperty;
+  }
+
+  /**
+   * Returns a lookup of the environment variables. Like Spring, a property such as {@code
+   * my.custom-property} is also looked up as {@code MY_CUSTOM_PROPERTY}.
+   *
+   * @since 0.2.0
+   * @return the lookup of the environment variables.
+   */
+  static StaticValuePropertyLookup environmentVariables() {
+    return key -> {
+      final String value = System.getenv(key);
+      return value != null
+          ? value
+          : System.getenv(key.replace('.', '_').replace('-', '_').toUpperCase(Locale.ROOT));
+    };
+  }
+
+  /**
+   * Returns a lookup of the system properties, and then the environment variables.
+   *
+   * @since 0.2.0
+   * @return the lookup of the system properties and environment variables.
+   */
+  static StaticValuePropertyLookup standard() {
+    return systemProperties().orElse(environmentVariables());
+  }
+}
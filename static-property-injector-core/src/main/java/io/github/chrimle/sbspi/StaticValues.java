@@ -0,0 +1,185 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+/**
+ * Injects fields annotated with {@link StaticValue}, or bound by {@link
+ * StaticConfigurationProperties}, without Spring. This is intended for applications such as CLI
+ * tools and batch jobs, which only need a few {@code static} fields to be injected, and would
+ * otherwise pay for the startup of a complete application context.
+ *
+ * <p>Fields are looked up in the <em>static value index</em> generated by {@link
+ * StaticValueIndexProcessor}, which MUST be on the classpath, and resolved against a {@link
+ * StaticValuePropertyLookup}. No classpath scanning is performed. Classes of the base packages in
+ * directories or jars without an index are therefore not injected, which is logged as a warning.
+ *
+ * <p>Example
+ *
+ * <pre>{@code
+ * public static void main(String[] args) {
+ *   StaticValues.inject(StaticValuePropertyLookup.standard(), "com.example");
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>Compared to {@code StaticValueInjector}, only property placeholders are supported. Fields with
+ * SpEL expressions, or with placeholders which cannot be resolved, are not assigned. Fields bound
+ * by {@link StaticConfigurationProperties} are resolved by the exact, dashed, property name, and
+ * only support the same types as fields annotated with {@link StaticValue}.
+ *
+ * @author Chrimle
+ * @since 0.2.0
+ */
+public final class StaticValues {
+
+  private static final System.Logger LOGGER = System.getLogger(StaticValues.class.getName());
+
+  private StaticValues() {}
+
+  /**
+   * Injects the indexed fields of classes within the {@code basePackages}, using the context class
+   * loader of the current thread.
+   *
+   * @since 0.2.0
+   * @param properties to resolve the fields with.
+   * @param basePackages of the classes to inject, or none to inject all indexed classes.
+   * @return the number of fields which were assigned.
+   * @throws IllegalStateException if there is no static value index on the classpath.
+   * @throws StaticValueInjectorException if a field could not be injected.
+   */
+  public static int inject(
+      final StaticValuePropertyLookup properties, final String... basePackages) {
+    return inject(properties, Thread.currentThread().getContextClassLoader(), basePackages);
+  }
+
+  /**
+   * Injects the indexed fields of classes within the {@code basePackages}.
+   *
+   * @since 0.2.0
+   * @param properties to resolve the fields with.
+   * @param classLoader to load the index and classes with.
+   * @param basePackages of the classes to inject, or none to inject all indexed classes.
+   * @return the number of fields which were assigned.
+   * @throws IllegalStateException if there is no static value index on the classpath.
+   * @throws StaticValueInjectorException if a field could not be injected.
+   */
+  public static int inject(
+      final StaticValuePropertyLookup properties,
+      final ClassLoader classLoader,
+      final String... basePackages) {
+    final StaticValueIndex.Indexed indexed =
+        StaticValueIndex.load(classLoader, className -> includes(basePackages, className));
+    if (indexed.roots().isEmpty()) {
+      throw new IllegalStateException(
+          "No static value index on the classpath: " + StaticValueIndex.INDEX_LOCATION);
+    }
+    for (final String basePackage : basePackages.length == 0 ? new String[] {""} : basePackages) {
+      final Set<String> unindexedRoots =
+          StaticValueIndex.unindexedRoots(classLoader, basePackage, indexed.roots());
+      if (!unindexedRoots.isEmpty()) {
+        LOGGER.log(
+            System.Logger.Level.WARNING,
+            "The classes of ''{0}'' in {1} will not be injected, as they have no static value"
+                + " index.",
+            basePackage,
+            unindexedRoots);
+      }
+    }
+    int injected = 0;
+    for (final Field field : indexed.fields()) {
+      if (inject(field, properties)) {
+        injected++;
+      }
+    }
+    return injected;
+  }
+
+  private static boolean inject(final Field field, final StaticValuePropertyLookup properties) {
+    final String expression =
+        StaticConfigurationPropertiesFields.isBound(field)
+            ? "${" + StaticConfigurationPropertiesFields.propertyName(field) + "}"
+            : field.getAnnotation(StaticValue.class).value();
+    if (expression.isEmpty()) {
+      throw StaticValueInjectorException.emptyAnnotationValue(field, expression);
+    }
+    if (expression.startsWith("#{")) {
+      LOGGER.log(
+          System.Logger.Level.DEBUG,
+          "The field {0} will not be assigned a value, as SpEL expressions require Spring.",
+          field);
+      return false;
+    }
+    if (!expression.startsWith("${")) {
+      throw StaticValueInjectorException.unsupportedAnnotationValue(field, expression);
+    }
+    final StaticFieldWriter writer = StaticFieldWriter.of(field, StaticFieldMemorySemantics.PLAIN);
+    if (field.getType() == StaticProperty.class) {
+      final Type valueType = valueTypeOf(field);
+      writer.write(
+          new StaticProperty<>(
+              () -> {
+                final String value = StaticValuePlaceholders.resolve(expression, properties);
+                return value == null ? null : convert(field, expression, value, valueType);
+              }));
+      return true;
+    }
+    final String value = StaticValuePlaceholders.resolve(expression, properties);
+    if (value == null) {
+      LOGGER.log(
+          System.Logger.Level.DEBUG,
+          "The field {0} will not be assigned a value, because ''{1}'' could not be resolved.",
+          field,
+          expression);
+      return false;
+    }
+    writer.write(convert(field, expression, value, field.getGenericType()));
+    return true;
+  }
+
+  private static Object convert(
+      final Field field, final String expression, final String value, final Type type) {
+    try {
+      return StaticValueConverter.convert(value, type);
+    } catch (IllegalArgumentException e) {
+      throw StaticValueInjectorException.unparsableAnnotationValue(field, expression, e);
+    }
+  }
+
+  private static Type valueTypeOf(final Field field) {
+    return field.getGenericType() instanceof ParameterizedType parameterizedType
+        ? parameterizedType.getActualTypeArguments()[0]
+        : String.class;
+  }
+
+  private static boolean includes(final String[] basePackages, final String className) {
+    if (basePackages.length == 0) {
+      return true;
+    }
+    for (final String basePackage : basePackages) {
+      if (className.startsWith(basePackage + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
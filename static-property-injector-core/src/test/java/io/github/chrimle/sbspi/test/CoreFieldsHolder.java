@@ -0,0 +1,59 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticProperty;
+import io.github.chrimle.sbspi.StaticValue;
+import java.time.Duration;
+import java.util.List;
+
+/** This is a class demonstrating how {@code static} fields are injected without Spring. */
+public class CoreFieldsHolder {
+
+  /** This property is injected from {@code core.name}. */
+  @StaticValue("${core.name}")
+  public static String NAME;
+
+  /** This property is injected from {@code core.threshold}, or defaults to {@code 10}. */
+  @StaticValue("${core.threshold:10}")
+  public static int THRESHOLD;
+
+  /** This property is injected from {@code core.url}, which references other properties. */
+  @StaticValue("${core.url:http://${core.host:localhost}:${core.port}}")
+  public static String URL;
+
+  /** This property is injected from {@code core.hosts}, as a comma-separated list. */
+  @StaticValue("${core.hosts:}")
+  public static List<String> HOSTS;
+
+  /** This property is injected from {@code core.timeout}. */
+  @StaticValue("${core.timeout:PT5S}")
+  public static Duration TIMEOUT;
+
+  /** This property is resolved lazily from {@code core.lazy}. */
+  @StaticValue("${core.lazy}")
+  public static StaticProperty<Integer> LAZY;
+
+  /** This property is not injected, as {@code core.missing} is not set. */
+  @StaticValue("${core.missing}")
+  public static String MISSING = "unchanged";
+
+  /** This property is not injected, as SpEL expressions require Spring. */
+  @StaticValue("#{'spel'}")
+  public static String SPEL = "unchanged";
+}
@@ -0,0 +1,107 @@
+/*
+  Copyright 2025 Chrimle
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+
+*/
+
+package io.github.chrimle.sbspi.test;
+
+import io.github.chrimle.sbspi.StaticValueInjectorException;
+import io.github.chrimle.sbspi.StaticValuePropertyLookup;
+import io.github.chrimle.sbspi.StaticValues;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class for testing {@link StaticValues} injects the fields of {@link CoreFieldsHolder} and {@link
+ * CoreBoundFieldsHolder}, without Spring.
+ */
+@DisplayName("Testing `StaticValues`")
+class StaticValuesTest {
+
+  private static final Map<String, String> PROPERTIES =
+      Map.of(
+          "core.name", "core",
+          "core.port", "8080",
+          "core.hosts", "alpha, beta",
+          "core.lazy", "42",
+          "core.bound.max-connections", "16",
+          "core.bound.retry-enabled", "yes");
+
+  private static int injected;
+
+  @BeforeAll
+  static void injectFields() {
+    injected =
+        StaticValues.inject(
+            StaticValuePropertyLookup.of(PROPERTIES), CoreFieldsHolder.class.getPackageName());
+  }
+
+  @Test
+  @DisplayName("Testing fields are injected from properties and defaults")
+  void testFieldsAreInjected() {
+    Assertions.assertEquals("core", CoreFieldsHolder.NAME);
+    Assertions.assertEquals(10, CoreFieldsHolder.THRESHOLD);
+    Assertions.assertEquals(List.of("alpha", "beta"), CoreFieldsHolder.HOSTS);
+    Assertions.assertEquals(Duration.ofSeconds(5), CoreFieldsHolder.TIMEOUT);
+  }
+
+  @Test
+  @DisplayName("Testing nested placeholders are resolved")
+  void testNestedPlaceholdersAreResolved() {
+    Assertions.assertEquals("http://localhost:8080", CoreFieldsHolder.URL);
+  }
+
+  @Test
+  @DisplayName("Testing `StaticProperty` fields are resolved lazily")
+  void testStaticPropertyFieldsAreResolvedLazily() {
+    Assertions.assertFalse(CoreFieldsHolder.LAZY.isResolved());
+    Assertions.assertEquals(42, CoreFieldsHolder.LAZY.get());
+  }
+
+  @Test
+  @DisplayName("Testing unresolvable and SpEL fields are not assigned")
+  void testUnresolvableAndSpelFieldsAreNotAssigned() {
+    Assertions.assertEquals("unchanged", CoreFieldsHolder.MISSING);
+    Assertions.assertEquals("unchanged", CoreFieldsHolder.SPEL);
+    Assertions.assertEquals(8, injected);
+  }
+
+  @Test
+  @DisplayName("Testing fields of `@StaticConfigurationProperties` classes are bound by prefix")
+  void testBoundFieldsAreInjected() {
+    Assertions.assertEquals(16, CoreBoundFieldsHolder.MAX_CONNECTIONS);
+    Assertions.assertTrue(CoreBoundFieldsHolder.retryEnabled);
+  }
+
+  @Test
+  @DisplayName("Testing unparsable values throw `StaticValueInjectorException`")
+  void testUnparsableValuesThrow() {
+    final StaticValueInjectorException exception =
+        Assertions.assertThrows(
+            StaticValueInjectorException.class,
+            () ->
+                StaticValues.inject(
+                    StaticValuePropertyLookup.of(Map.of("core.threshold", "many"))
+                        .orElse(StaticValuePropertyLookup.of(PROPERTIES)),
+                    CoreFieldsHolder.class.getPackageName()));
+    Assertions.assertEquals(
+        StaticValueInjectorException.Reason.ANNOTATION_VALUE_UNPARSABLE, exception.getReason());
+  }
+}